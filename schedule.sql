@@ -3,32 +3,93 @@ DROP DATABASE scheduler;
 CREATE DATABASE IF NOT EXISTS scheduler;
 USE scheduler;
 
+-- 생성/수정 시각은 마이크로초 단위로 저장 (ETag 와 변경 피드 커서가 같은 초 안의 변경도 구분하도록)
+-- 기존 테이블은 다음과 같이 변경합니다.
+-- ALTER TABLE users MODIFY created_at DATETIME(6) NOT NULL, MODIFY modified_at DATETIME(6) NOT NULL;
+-- ALTER TABLE schedules MODIFY created_at DATETIME(6) NOT NULL, MODIFY modified_at DATETIME(6) NOT NULL;
+-- ALTER TABLE comments MODIFY created_at DATETIME(6) NOT NULL, MODIFY modified_at DATETIME(6) NOT NULL;
 CREATE TABLE IF NOT EXISTS users(
     id          BIGINT          AUTO_INCREMENT  PRIMARY KEY ,
     username    VARCHAR(50)     NOT NULL ,
     email       VARCHAR(100)    NOT NULL    UNIQUE ,
     password    VARCHAR(100)    NOT NULL ,
-    created_at  DATETIME        NOT NULL ,
-    modified_at DATETIME        NOT NULL
+    created_at  DATETIME(6)     NOT NULL ,
+    modified_at DATETIME(6)     NOT NULL ,
+    deleted_at  DATETIME        NULL ,
+    INDEX idx_users_username (username)
 );
 
+-- 일정 시간 구간 (시간이 정해지지 않은 일정은 NULL), 기간 조회와 사용자별 겹침 검사용 인덱스
+-- 기존 테이블은 다음과 같이 변경합니다.
+-- ALTER TABLE schedules ADD COLUMN start_at DATETIME(6) NULL, ADD COLUMN end_at DATETIME(6) NULL,
+--     ADD INDEX idx_schedules_start_at_end_at (start_at, end_at),
+--     ADD INDEX idx_schedules_user_id_start_at_end_at (user_id, start_at, end_at);
 CREATE TABLE IF NOT EXISTS schedules(
-    id          BIGINT          AUTO_INCREMENT  PRIMARY KEY ,
+    id          BIGINT          PRIMARY KEY ,
     title       VARCHAR(100)    NOT NULL ,
     content     TEXT            NOT NULL ,
+    start_at    DATETIME(6)     NULL ,
+    end_at      DATETIME(6)     NULL ,
     user_id     BIGINT          NOT NULL ,
-    created_at  DATETIME        NOT NULL ,
-    modified_at DATETIME        NOT NULL ,
-    FOREIGN KEY (user_id) REFERENCES users(id)
+    comment_count BIGINT        NOT NULL    DEFAULT 0 ,
+    created_at  DATETIME(6)     NOT NULL ,
+    modified_at DATETIME(6)     NOT NULL ,
+    FOREIGN KEY (user_id) REFERENCES users(id) ,
+    INDEX idx_schedules_modified_at_id (modified_at, id) ,
+    INDEX idx_schedules_start_at_end_at (start_at, end_at) ,
+    INDEX idx_schedules_user_id_start_at_end_at (user_id, start_at, end_at)
 );
 
 CREATE TABLE IF NOT EXISTS comments(
-    id          BIGINT          AUTO_INCREMENT  PRIMARY KEY ,
+    id          BIGINT          PRIMARY KEY ,
     content     TEXT            NOT NULL ,
     user_id     BIGINT          NOT NULL ,
     schedule_id BIGINT          NOT NULL ,
-    created_at  DATETIME        NOT NULL ,
-    modified_at DATETIME        NOT NULL ,
+    created_at  DATETIME(6)     NOT NULL ,
+    modified_at DATETIME(6)     NOT NULL ,
     FOREIGN KEY (user_id) REFERENCES users(id) ,
-    FOREIGN KEY (schedule_id) REFERENCES schedules(id)
-)
\ No newline at end of file
+    FOREIGN KEY (schedule_id) REFERENCES schedules(id) ,
+    INDEX idx_comments_schedule_id_created_at_id (schedule_id, created_at, id)
+);
+
+-- 탈퇴한 사용자의 데이터 삭제 작업 (진행량을 저장하여 재시작 후 이어서 처리)
+CREATE TABLE IF NOT EXISTS user_purge_tasks(
+    id                  BIGINT      AUTO_INCREMENT  PRIMARY KEY ,
+    user_id             BIGINT      NOT NULL    UNIQUE ,
+    deleted_comments    BIGINT      NOT NULL    DEFAULT 0 ,
+    deleted_schedules   BIGINT      NOT NULL    DEFAULT 0 ,
+    completed_at        DATETIME    NULL ,
+    created_at          DATETIME    NOT NULL ,
+    modified_at         DATETIME    NOT NULL ,
+    INDEX idx_user_purge_tasks_completed_at (completed_at)
+);
+
+-- 삭제된 일정 기록 (변경 피드용, 보관 기간이 지나면 삭제)
+CREATE TABLE IF NOT EXISTS schedule_tombstones(
+    id          BIGINT          PRIMARY KEY ,
+    schedule_id BIGINT          NOT NULL ,
+    deleted_at  DATETIME(6)     NOT NULL ,
+    INDEX idx_schedule_tombstones_deleted_at_id (deleted_at, id)
+);
+
+-- 일정/댓글 ID 시퀀스 (MySQL은 시퀀스가 없어 Hibernate가 테이블로 대신 사용, 한 번에 50개씩 할당)
+-- Hibernate는 읽은 next_val 을 할당 범위의 마지막 값으로 보고 (next_val - 49) 부터 할당하므로 MAX(id) + 50 으로 채웁니다.
+-- 아래 INSERT 는 시퀀스 테이블이 비어 있을 때만 한 행을 넣으므로 여러 번 실행해도 됩니다.
+-- 기존 데이터베이스는 README 의 "기존 데이터베이스 업그레이드" 절차대로 애플리케이션을 시작하기 전에 실행해야 합니다.
+CREATE TABLE IF NOT EXISTS schedules_seq(
+    next_val    BIGINT          NOT NULL
+);
+INSERT INTO schedules_seq (next_val) SELECT (SELECT COALESCE(MAX(id), 0) + 50 FROM schedules) FROM DUAL
+    WHERE NOT EXISTS (SELECT 1 FROM schedules_seq);
+
+CREATE TABLE IF NOT EXISTS comments_seq(
+    next_val    BIGINT          NOT NULL
+);
+INSERT INTO comments_seq (next_val) SELECT (SELECT COALESCE(MAX(id), 0) + 50 FROM comments) FROM DUAL
+    WHERE NOT EXISTS (SELECT 1 FROM comments_seq);
+
+CREATE TABLE IF NOT EXISTS schedule_tombstones_seq(
+    next_val    BIGINT          NOT NULL
+);
+INSERT INTO schedule_tombstones_seq (next_val) SELECT (SELECT COALESCE(MAX(id), 0) + 50 FROM schedule_tombstones) FROM DUAL
+    WHERE NOT EXISTS (SELECT 1 FROM schedule_tombstones_seq);
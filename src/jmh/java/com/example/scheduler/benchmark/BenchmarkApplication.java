@@ -0,0 +1,114 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.SchedulerApplication;
+import com.example.scheduler.config.PasswordEncoder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 벤치마크용으로 내장 H2 데이터베이스를 사용하는 애플리케이션 컨텍스트를 띄우고 데이터를 적재합니다.
+ * 적재된 사용자는 모두 {@link #PASSWORD} 비밀번호와 {@code user<번호>@example.com} 이메일을 사용합니다.
+ */
+final class BenchmarkApplication {
+
+    static final String PASSWORD = "password1234!";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * 애플리케이션 컨텍스트를 시작합니다.
+     *
+     * @param databaseName 내장 H2 데이터베이스 이름 (컨텍스트마다 다르게 지정)
+     * @param web          내장 톰캣을 띄울지 여부
+     * @param extraArgs    추가 설정 (예: {@code --server.port=0})
+     * @return 시작된 애플리케이션 컨텍스트
+     */
+    static ConfigurableApplicationContext start(String databaseName, boolean web, String... extraArgs) {
+        String[] args = Stream.concat(Stream.of(
+                "--spring.main.web-application-type=" + (web ? "servlet" : "none"),
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--scheduler.password.cost=4",
+                "--logging.level.root=WARN"), Stream.of(extraArgs))
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(SchedulerApplication.class).run(args);
+    }
+
+    /**
+     * JPA를 거치지 않고 JDBC 배치로 사용자, 일정, 댓글을 적재합니다 (ID는 1부터 순서대로 지정).
+     *
+     * @return 적재된 일정 수 (일정 ID는 1부터 이 값까지)
+     */
+    static long seed(ConfigurableApplicationContext context, int users, int schedulesPerUser, int commentsPerSchedule) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        LocalDateTime now = LocalDateTime.now();
+        String password = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        List<Object[]> userRows = new ArrayList<>();
+        for (int u = 1; u <= users; u++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusDays(1));
+            userRows.add(new Object[]{u, "user" + u, "user" + u + "@example.com", password, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, username, email, password, created_at, modified_at) "
+                + "values (?, ?, ?, ?, ?, ?)", userRows);
+
+        List<Object[]> scheduleRows = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> commentRows = new ArrayList<>(BATCH_SIZE);
+        long scheduleId = 0;
+        long commentId = 0;
+        for (int u = 1; u <= users; u++) {
+            for (int s = 0; s < schedulesPerUser; s++) {
+                scheduleId++;
+                Timestamp modifiedAt = Timestamp.valueOf(now.minusMinutes(scheduleId));
+                scheduleRows.add(new Object[]{scheduleId, "일정 " + scheduleId, "일정 내용 " + scheduleId, u,
+                        commentsPerSchedule, modifiedAt, modifiedAt});
+
+                for (int c = 0; c < commentsPerSchedule; c++) {
+                    commentId++;
+                    int author = (int) (commentId % users) + 1;
+                    commentRows.add(new Object[]{commentId, "댓글 " + commentId, author, scheduleId,
+                            modifiedAt, modifiedAt});
+                }
+
+                if (scheduleRows.size() >= BATCH_SIZE) {
+                    insertSchedules(jdbcTemplate, scheduleRows);
+                }
+                if (commentRows.size() >= BATCH_SIZE) {
+                    // 댓글이 참조하는 일정을 먼저 적재
+                    insertSchedules(jdbcTemplate, scheduleRows);
+                    insertComments(jdbcTemplate, commentRows);
+                }
+            }
+        }
+        insertSchedules(jdbcTemplate, scheduleRows);
+        insertComments(jdbcTemplate, commentRows);
+        return scheduleId;
+    }
+
+    private static void insertSchedules(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("insert into schedules (id, title, content, user_id, comment_count, created_at, modified_at) "
+                + "values (?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private static void insertComments(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("insert into comments (id, content, user_id, schedule_id, created_at, modified_at) "
+                + "values (?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+}
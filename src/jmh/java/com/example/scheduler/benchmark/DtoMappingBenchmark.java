@@ -0,0 +1,53 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
+import com.example.scheduler.entity.Schedule;
+import com.example.scheduler.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 및 조회 컬럼으로부터 응답 DTO를 생성하는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DtoMappingBenchmark {
+
+    private Schedule schedule;
+    private LocalDateTime timestamp;
+
+    @Setup
+    public void setUp() {
+        User user = new User("user1", "user1@example.com", "password");
+        schedule = new Schedule("일정 제목", "일정 내용입니다.", user);
+        timestamp = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public ScheduleResponseDto scheduleResponseFromEntity() {
+        return new ScheduleResponseDto(schedule);
+    }
+
+    @Benchmark
+    public ScheduleResponseDto scheduleResponseFromProjection() {
+        return new ScheduleResponseDto(1L, "일정 제목", "일정 내용입니다.", timestamp, timestamp, "user1",
+                timestamp, timestamp);
+    }
+
+    @Benchmark
+    public SchedulePageResponseDto schedulePageResponseFromEntity() {
+        return new SchedulePageResponseDto(schedule, 5L);
+    }
+
+    @Benchmark
+    public SchedulePageResponseDto schedulePageResponseFromProjection() {
+        return new SchedulePageResponseDto(1L, "일정 제목", "일정 내용입니다.", "user1", 5L, timestamp, timestamp);
+    }
+}
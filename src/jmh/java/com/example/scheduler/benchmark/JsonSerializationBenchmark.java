@@ -0,0 +1,113 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.dto.comment.CommentResponseDto;
+import com.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
+import com.example.scheduler.json.ResponseJsonModule;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO의 Jackson 직렬화 비용을 측정합니다.
+ * {@link ObjectMapper}는 Spring Boot와 같은 방식({@link Jackson2ObjectMapperBuilder})으로 생성하며,
+ * {@code serializers=jackson}은 기본 빈 직렬화, {@code serializers=precompiled}는 {@link ResponseJsonModule}을 등록한 경우입니다.
+ * {@code *ToStream} 벤치마크는 응답과 같이 출력 스트림에 바로 쓰는 경우를 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param("100")
+    public int listSize;
+
+    @Param({"jackson", "precompiled"})
+    public String serializers;
+
+    private ObjectMapper objectMapper;
+    private ScheduleResponseDto scheduleResponse;
+    private List<ScheduleResponseDto> scheduleResponses;
+    private List<SchedulePageResponseDto> schedulePageResponses;
+    private List<CommentResponseDto> commentResponses;
+    private Page<SchedulePageResponseDto> schedulePage;
+    private final OutputStream discardingStream = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("precompiled".equals(serializers)) {
+            builder.modulesToInstall(new ResponseJsonModule());
+        }
+        objectMapper = builder.build();
+
+        // DB 에서 읽은 값과 같이 마이크로초 단위까지 포함
+        LocalDateTime now = LocalDateTime.now().withNano(123_456_000);
+        scheduleResponse = new ScheduleResponseDto(1L, "일정 제목", "일정 내용입니다.", now, now.plusHours(1), "user1",
+                now, now);
+        scheduleResponses = new ArrayList<>(listSize);
+        schedulePageResponses = new ArrayList<>(listSize);
+        commentResponses = new ArrayList<>(listSize);
+        for (long id = 1; id <= listSize; id++) {
+            LocalDateTime modifiedAt = now.minusMinutes(id);
+            scheduleResponses.add(new ScheduleResponseDto(id, "일정 " + id, "일정 내용 " + id,
+                    modifiedAt, modifiedAt.plusHours(1), "user1", modifiedAt, modifiedAt));
+            schedulePageResponses.add(new SchedulePageResponseDto(id, "일정 " + id, "일정 내용 " + id, "user1",
+                    id % 10, modifiedAt, modifiedAt));
+            commentResponses.add(new CommentResponseDto(id, "댓글 " + id, "user1", modifiedAt, modifiedAt));
+        }
+        schedulePage = new PageImpl<>(schedulePageResponses, PageRequest.of(0, listSize), listSize * 10L);
+    }
+
+    @Benchmark
+    public byte[] scheduleResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(scheduleResponse);
+    }
+
+    @Benchmark
+    public byte[] scheduleResponseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(scheduleResponses);
+    }
+
+    @Benchmark
+    public byte[] schedulePageResponseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(schedulePageResponses);
+    }
+
+    @Benchmark
+    public byte[] commentResponseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(commentResponses);
+    }
+
+    @Benchmark
+    public byte[] schedulePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(schedulePage);
+    }
+
+    @Benchmark
+    public void schedulePageToStream() throws IOException {
+        objectMapper.writeValue(discardingStream, schedulePage);
+    }
+}
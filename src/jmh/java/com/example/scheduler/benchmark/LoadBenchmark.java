@@ -0,0 +1,249 @@
+package com.example.scheduler.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드(vthreads 프로필) 모드의 처리량과 지연 시간을 비교하는 부하 벤치마크입니다.
+ *
+ * 모드마다 내장 톰캣과 H2 데이터베이스로 애플리케이션을 띄우고, 모든 쿼리에 같은 지연({@code --db-latency})을 주입한 뒤
+ * 고정된 수의 클라이언트가 일정 페이징 조회, 일정 커서 조회, 댓글 조회를 번갈아 호출합니다.
+ * 두 모드 모두 같은 커넥션 풀 크기를 사용하므로 요청 처리 스레드 모델의 차이만 비교됩니다.
+ *
+ * 옵션: {@code --concurrency=200 --duration=30s --warmup=10s --db-latency=20ms --pool-size=20 --results=<json 경로>}
+ */
+public final class LoadBenchmark {
+
+    private static final int USERS = 10;
+    private static final int SCHEDULES_PER_USER = 100;
+    private static final int COMMENTS_PER_SCHEDULE = 5;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private LoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "30s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s"));
+        String dbLatency = options.getOrDefault("db-latency", "20ms");
+        String poolSize = options.getOrDefault("pool-size", "20");
+
+        List<Map<String, Object>> runs = new ArrayList<>();
+        for (String mode : List.of("platform", "virtual")) {
+            List<String> appArgs = new ArrayList<>(List.of(
+                    "--server.port=0",
+                    "--scheduler.auth.mode=token",
+                    "--scheduler.auth.token.secret=load-benchmark-secret",
+                    "--scheduler.db-latency.delay=" + dbLatency,
+                    "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                    "--spring.datasource.hikari.minimum-idle=" + poolSize));
+            if (mode.equals("virtual")) {
+                appArgs.add("--spring.profiles.active=vthreads");
+            }
+
+            try (ConfigurableApplicationContext context =
+                         BenchmarkApplication.start("load-" + mode, true, appArgs.toArray(String[]::new))) {
+                long scheduleCount = BenchmarkApplication.seed(context, USERS, SCHEDULES_PER_USER, COMMENTS_PER_SCHEDULE);
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+                LoadRun loadRun = new LoadRun(port, scheduleCount, concurrency);
+                loadRun.execute(warmup);
+                Map<String, Object> result = loadRun.execute(duration);
+
+                Map<String, Object> run = new LinkedHashMap<>();
+                run.put("mode", mode);
+                run.putAll(result);
+                runs.add(run);
+                System.out.println(run);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("dbLatency", dbLatency);
+        report.put("poolSize", Integer.parseInt(poolSize));
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("runs", runs);
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        String results = options.get("results");
+        if (results != null) {
+            objectMapper.writeValue(Path.of(results).toFile(), report);
+            System.out.println("결과 저장: " + results);
+        } else {
+            System.out.println(objectMapper.writeValueAsString(report));
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    /**
+     * 한 모드에 대한 부하를 발생시키고 결과를 집계합니다.
+     */
+    private static final class LoadRun {
+
+        private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+        private final String baseUrl;
+        private final long scheduleCount;
+        private final int concurrency;
+        private final String authorization;
+
+        LoadRun(int port, long scheduleCount, int concurrency) throws Exception {
+            this.baseUrl = "http://localhost:" + port;
+            this.scheduleCount = scheduleCount;
+            this.concurrency = concurrency;
+            this.authorization = "Bearer " + login();
+        }
+
+        Map<String, Object> execute(Duration duration) throws InterruptedException {
+            ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<LatencyRecorder>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> runClient(deadline)));
+            }
+
+            LatencyRecorder total = new LatencyRecorder();
+            try {
+                for (Future<LatencyRecorder> future : futures) {
+                    total.addAll(future.get());
+                }
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            } finally {
+                clients.shutdownNow();
+            }
+
+            long[] latencies = total.sortedValues();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", latencies.length);
+            result.put("errors", total.errors);
+            result.put("throughputPerSecond", latencies.length / (duration.toNanos() / 1_000_000_000.0));
+            result.put("p50Millis", percentileMillis(latencies, 0.50));
+            result.put("p95Millis", percentileMillis(latencies, 0.95));
+            result.put("p99Millis", percentileMillis(latencies, 0.99));
+            result.put("maxMillis", percentileMillis(latencies, 1.0));
+            return result;
+        }
+
+        private LatencyRecorder runClient(long deadline) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            int step = ThreadLocalRandom.current().nextInt(3);
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + nextPath(step++)))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Authorization", authorization)
+                        .GET()
+                        .build();
+
+                long startedAt = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    recorder.add(System.nanoTime() - startedAt, response.statusCode() >= 400);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (Exception e) {
+                    recorder.add(System.nanoTime() - startedAt, true);
+                }
+            }
+            return recorder;
+        }
+
+        // 일정 페이징 조회, 일정 커서 조회, 댓글 조회를 번갈아 호출
+        private String nextPath(int step) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            switch (step % 3) {
+                case 0:
+                    long pages = Math.max(1, scheduleCount / 10);
+                    return "/api/schedules/paging?page=" + random.nextLong(1, pages + 1) + "&size=10";
+                case 1:
+                    return "/api/schedules/cursor?size=10";
+                default:
+                    return "/api/schedules/" + random.nextLong(1, scheduleCount + 1) + "/comments";
+            }
+        }
+
+        private String login() throws Exception {
+            String body = "{\"email\":\"user1@example.com\",\"password\":\"" + BenchmarkApplication.PASSWORD + "\"}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/login"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("로그인 실패: " + response.statusCode() + " " + response.body());
+            }
+            return new ObjectMapper().readTree(response.body()).get("token").asText();
+        }
+
+        private static double percentileMillis(long[] sortedLatencies, double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * 클라이언트 스레드별 응답 시간을 박싱 없이 기록합니다.
+     */
+    private static final class LatencyRecorder {
+
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long latencyNanos, boolean error) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        void addAll(LatencyRecorder other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        long[] sortedValues() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
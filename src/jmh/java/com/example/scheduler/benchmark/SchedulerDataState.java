@@ -0,0 +1,50 @@
+package com.example.scheduler.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 내장 H2 데이터베이스로 애플리케이션 컨텍스트를 띄우고 벤치마크용 데이터를 적재하는 JMH 상태입니다.
+ *
+ * 적재량은 {@code -p users=... -p schedulesPerUser=... -p commentsPerSchedule=...}로 조정할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+public class SchedulerDataState {
+
+    @Param("10")
+    public int users;
+
+    @Param("100")
+    public int schedulesPerUser;
+
+    @Param("5")
+    public int commentsPerSchedule;
+
+    private ConfigurableApplicationContext context;
+    private long scheduleCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("benchmark", false);
+        scheduleCount = BenchmarkApplication.seed(context, users, schedulesPerUser, commentsPerSchedule);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public long getScheduleCount() {
+        return scheduleCount;
+    }
+
+    public long randomScheduleId() {
+        return ThreadLocalRandom.current().nextLong(1, scheduleCount + 1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.scheduler.benchmark;
+
+import com.example.scheduler.dto.comment.CommentResponseDto;
+import com.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import com.example.scheduler.service.CommentService;
+import com.example.scheduler.service.ScheduleService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층의 조회 경로를 내장 H2 데이터베이스에 대해 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    @Param({"1", "50"})
+    public int page;
+
+    @Param("10")
+    public int pageSize;
+
+    private SchedulerDataState data;
+    private ScheduleService scheduleService;
+    private CommentService commentService;
+
+    @Setup(Level.Trial)
+    public void setUp(SchedulerDataState data) {
+        this.data = data;
+        this.scheduleService = data.getBean(ScheduleService.class);
+        this.commentService = data.getBean(CommentService.class);
+    }
+
+    @Benchmark
+    public Page<SchedulePageResponseDto> getSchedulesWithPaging() {
+        return scheduleService.getSchedulesWithPaging(page, pageSize);
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> getComments() {
+        return commentService.getComments(data.randomScheduleId());
+    }
+}
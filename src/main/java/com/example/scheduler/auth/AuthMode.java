@@ -0,0 +1,17 @@
+package com.example.scheduler.auth;
+
+/**
+ * 인증 방식입니다. {@code scheduler.auth.mode} 설정으로 선택합니다.
+ */
+public enum AuthMode {
+
+    /**
+     * 서블릿 세션(JSESSIONID 쿠키)에 로그인 정보를 저장하는 방식입니다.
+     */
+    SESSION,
+
+    /**
+     * 서버에 상태를 저장하지 않고, HMAC 서명된 토큰을 {@code Authorization: Bearer} 헤더로 전달받는 방식입니다.
+     */
+    TOKEN
+}
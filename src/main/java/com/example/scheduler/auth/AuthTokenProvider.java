@@ -0,0 +1,125 @@
+package com.example.scheduler.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * HMAC-SHA256으로 서명된 인증 토큰을 발급하고 검증합니다.
+ *
+ * 토큰 형식은 {@code <userId>.<만료 epoch 초>.<Base64 서명>}이며,
+ * 서버에는 아무 상태도 저장하지 않으므로 같은 비밀키를 공유하는 모든 노드에서 검증할 수 있습니다.
+ * 사용자명처럼 바뀔 수 있는 정보는 담지 않으며, 인증 필터가 사용자 ID로 현재 사용자 정보를 조회합니다.
+ * 검증 시 숫자 필드는 부분 문자열을 만들지 않고 바로 파싱하며, {@link Mac} 인스턴스는 스레드별로 재사용합니다.
+ */
+@Slf4j
+@Component
+public class AuthTokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '.';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> macs;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public AuthTokenProvider(@Value("${scheduler.auth.token.secret:}") String secret,
+                             @Value("${scheduler.auth.token.ttl:30m}") Duration ttl) {
+        SecretKeySpec key = new SecretKeySpec(resolveSecret(secret), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> newMac(key));
+        this.ttl = ttl;
+        this.clock = Clock.systemUTC();
+    }
+
+    /**
+     * 사용자 ID를 담은 토큰을 발급합니다.
+     *
+     * @param userId 로그인한 사용자의 ID
+     * @return 서명된 토큰 문자열
+     */
+    public String issue(Long userId) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String payload = userId + "." + expiresAt;
+
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.US_ASCII);
+        return payload + SEPARATOR + ENCODER.encodeToString(sign(payloadBytes, payloadBytes.length));
+    }
+
+    /**
+     * 토큰의 서명과 만료 시간을 검증하고 사용자 ID를 반환합니다.
+     *
+     * @param token 검증할 토큰 문자열
+     * @return 토큰이 유효하면 사용자 ID, 형식이 잘못되었거나 서명이 다르거나 만료되었으면 {@code null}
+     */
+    public Long verify(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        int userIdEnd = token.indexOf(SEPARATOR);
+        int signatureStart = token.indexOf(SEPARATOR, userIdEnd + 1);
+        if (userIdEnd <= 0 || signatureStart < 0 || token.indexOf(SEPARATOR, signatureStart + 1) >= 0) {
+            return null;
+        }
+
+        try {
+            // 서명 검증 (타이밍 공격을 피하기 위해 상수 시간 비교)
+            byte[] expected = sign(token.getBytes(StandardCharsets.US_ASCII), signatureStart);
+            byte[] actual = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return null;
+            }
+
+            // 만료 시간 확인
+            long expiresAt = Long.parseLong(token, userIdEnd + 1, signatureStart, 10);
+            if (clock.instant().getEpochSecond() >= expiresAt) {
+                return null;
+            }
+
+            return Long.parseLong(token, 0, userIdEnd, 10);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException, Base64 디코딩 오류
+            return null;
+        }
+    }
+
+    private byte[] sign(byte[] bytes, int length) {
+        Mac mac = macs.get();
+        mac.update(bytes, 0, length);
+        return mac.doFinal();
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("토큰 서명 키를 초기화할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] resolveSecret(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+
+        // 비밀키가 없으면 임의로 생성 (재시작하거나 노드가 여러 대이면 기존 토큰은 검증되지 않음)
+        log.warn("scheduler.auth.token.secret 설정이 없어 임의의 비밀키를 사용합니다. 여러 노드에서 토큰을 검증하려면 같은 비밀키를 설정해야 합니다.");
+        byte[] generated = new byte[32];
+        new SecureRandom().nextBytes(generated);
+        return generated;
+    }
+}
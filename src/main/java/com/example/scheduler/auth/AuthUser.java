@@ -0,0 +1,24 @@
+package com.example.scheduler.auth;
+
+import lombok.Getter;
+
+/**
+ * 인증된 사용자 정보입니다.
+ * {@link com.example.scheduler.filter.AuthFilter}가 세션 또는 토큰의 사용자 ID로 현재 사용자 정보를 조회하여 요청 속성에 저장합니다.
+ */
+@Getter
+public class AuthUser {
+    private final Long id;
+    private final String username;
+
+    /**
+     * 사용자 ID와 사용자명으로 {@link AuthUser}를 생성합니다.
+     *
+     * @param id       인증된 사용자의 ID
+     * @param username 인증된 사용자의 사용자명
+     */
+    public AuthUser(Long id, String username) {
+        this.id = id;
+        this.username = username;
+    }
+}
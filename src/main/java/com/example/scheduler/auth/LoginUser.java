@@ -0,0 +1,15 @@
+package com.example.scheduler.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메소드의 {@link AuthUser} 파라미터에 현재 로그인한 사용자 정보를 주입합니다.
+ * 값은 {@link LoginUserArgumentResolver}가 인증 필터가 저장한 요청 속성에서 꺼내 전달합니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
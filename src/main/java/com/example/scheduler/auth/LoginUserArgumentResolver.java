@@ -0,0 +1,32 @@
+package com.example.scheduler.auth;
+
+import com.example.scheduler.filter.AuthFilter;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link LoginUser}가 붙은 {@link AuthUser} 파라미터를 처리하는 리졸버입니다.
+ * 세션이나 토큰을 다시 해석하지 않고, 요청마다 {@link AuthFilter}가 한 번 저장한 값을 그대로 사용합니다.
+ */
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && AuthUser.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object authUser = webRequest.getAttribute(AuthFilter.AUTH_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (authUser == null) {
+            throw new IllegalArgumentException("인증이 필요합니다.");
+        }
+        return authUser;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.scheduler.cache;
+
+import com.example.scheduler.dto.ResourceVersionDto;
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
+import com.example.scheduler.event.ScheduleChangedEvent;
+import com.example.scheduler.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 스케줄 단건 조회 결과({@link ScheduleResponseDto})를 보관하는 프로세스 내 캐시입니다.
+ *
+ * 최대 크기를 넘으면 사용 빈도가 낮은 항목부터 제거되며, 적중/실패/제거 통계를 기록합니다.
+ * 스케줄이나 댓글이 변경되면 트랜잭션이 커밋된 이후에 해당 항목만 무효화합니다.
+ * 조회 중인 항목이 무효화되면 조회가 끝날 때까지 기다린 뒤 제거되므로,
+ * 커밋 이전의 값이 커밋 이후까지 캐시에 남지 않습니다.
+ * 통계는 {@code cache.*{cache="schedule"}} Micrometer 지표로도 노출됩니다.
+ * 조건부 조회에 사용하는 스케줄 버전 정보({@link ResourceVersionDto})도 같은 방식으로 함께 보관하고 무효화합니다.
+ */
+@Component
+public class ScheduleCache implements MeterBinder {
+
+    private final Cache<Long, ScheduleResponseDto> cache;
+    private final Cache<Long, ResourceVersionDto> versions;
+
+    /**
+     * 최대 항목 수를 지정하여 {@link ScheduleCache}를 생성합니다.
+     *
+     * @param maximumSize 캐시에 보관할 최대 스케줄 수
+     */
+    public ScheduleCache(@Value("${scheduler.cache.schedule.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 캐시에서 스케줄을 조회하고, 없으면 {@code loader}로 조회한 결과를 캐시에 저장한 뒤 반환합니다.
+     * {@code loader}에서 예외가 발생하면 캐시에 저장하지 않고 그대로 전달합니다.
+     *
+     * @param id     조회할 스케줄의 ID
+     * @param loader 캐시에 없을 때 스케줄을 조회하는 함수
+     * @return 조회된 {@link ScheduleResponseDto}
+     */
+    public ScheduleResponseDto get(Long id, Function<Long, ScheduleResponseDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * 캐시에서 스케줄 버전 정보를 조회하고, 없으면 {@code loader}로 조회한 결과를 캐시에 저장한 뒤 반환합니다.
+     *
+     * @param id     조회할 스케줄의 ID
+     * @param loader 캐시에 없을 때 버전 정보를 조회하는 함수
+     * @return 조회된 {@link ResourceVersionDto}
+     */
+    public ResourceVersionDto getVersion(Long id, Function<Long, ResourceVersionDto> loader) {
+        return versions.get(id, loader);
+    }
+
+    /**
+     * 캐시 적중/실패/제거 통계를 반환합니다.
+     *
+     * @return 현재까지 누적된 {@link CacheStats}
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "schedule");
+    }
+
+    /**
+     * 현재 캐시에 보관된 항목 수(근사값)를 반환합니다.
+     *
+     * @return 캐시 항목 수
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 스케줄 또는 댓글 변경이 커밋된 이후 해당 스케줄 항목을 무효화합니다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 처리합니다.
+     *
+     * @param event 변경된 스케줄 정보를 담은 {@link ScheduleChangedEvent}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        cache.invalidate(event.getScheduleId());
+        versions.invalidate(event.getScheduleId());
+    }
+
+    /**
+     * 사용자 정보 변경이 커밋된 이후 캐시 전체를 무효화합니다.
+     * 캐시된 응답에 작성자의 사용자명이 포함되어 있으므로, 드물게 발생하는 사용자 변경 시에는 전체를 비웁니다.
+     *
+     * @param event 변경된 사용자 정보를 담은 {@link UserChangedEvent}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.invalidateAll();
+        versions.invalidateAll();
+    }
+}
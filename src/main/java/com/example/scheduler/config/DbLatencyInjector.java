@@ -0,0 +1,107 @@
+package com.example.scheduler.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 데이터베이스 환경을 재현하기 위해 SQL 실행과 커밋/롤백마다 지정한 지연 시간을 추가합니다.
+ *
+ * 부하 테스트 전용이며 {@code scheduler.db-latency.delay} 속성이 설정된 경우에만 등록됩니다.
+ * 지연은 {@link Thread#sleep}으로 구현하므로 가상 스레드에서는 캐리어 스레드를 점유하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "scheduler.db-latency.delay")
+public class DbLatencyInjector implements BeanPostProcessor {
+
+    private final long delayNanos;
+
+    public DbLatencyInjector(@Value("${scheduler.db-latency.delay}") Duration delay) {
+        this.delayNanos = delay.toNanos();
+        log.warn("DB 지연 주입이 활성화되었습니다: 쿼리마다 {}ms", delay.toMillis());
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // 다른 DataSource 에 위임하는 프록시(복제본 라우팅 등)는 대상 풀에서 이미 지연이 추가되므로 감싸지 않음
+        if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+            return new LatencyDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    private void sleep() {
+        try {
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class LatencyDataSource extends DelegatingDataSource {
+
+        LatencyDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(super.getConnection(username, password));
+        }
+    }
+
+    // 커밋/롤백 전에 지연을 추가하고, 생성되는 Statement도 감싸서 반환
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("commit") || name.equals("rollback")) {
+                        sleep();
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement && method.getReturnType().isInterface()) {
+                        return wrapStatement(result, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    // execute로 시작하는 메소드(executeQuery, executeUpdate, executeBatch 등) 실행 전에 지연 추가
+    private Object wrapStatement(Object statement, Class<?> statementType) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                sleep();
+            }
+            return invoke(statement, method, args);
+        };
+        return Proxy.newProxyInstance(statementType.getClassLoader(), new Class<?>[]{statementType}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.scheduler.config;
+
+import com.example.scheduler.json.ResponseJsonModule;
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON 직렬화 설정입니다.
+ *
+ * 등록된 {@link Module} 빈은 Spring Boot가 애플리케이션의 {@code ObjectMapper}에 자동으로 추가합니다.
+ * 전용 직렬화기는 {@code scheduler.json.response-serializers=false}로 끄고 기본 직렬화와 비교할 수 있습니다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    // 응답 DTO와 Page 를 리플렉션 없이 직렬화하는 모듈 등록
+    @Bean
+    @ConditionalOnProperty(name = "scheduler.json.response-serializers", havingValue = "true", matchIfMissing = true)
+    public Module responseJsonModule() {
+        return new ResponseJsonModule();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.scheduler.config;
+
+import com.example.scheduler.monitoring.TimedJackson2HttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * 애플리케이션 지표 설정입니다.
+ *
+ * 컨트롤러(요청) 지표는 Spring Boot의 {@code http.server.requests}, 리포지토리 지표는 {@code spring.data.repository.invocations},
+ * 커넥션 풀 대기 시간은 {@code hikaricp.connections.acquire}, 엔티티 로딩 수는 {@code hibernate.entities.loads}로 자동 수집되며,
+ * 서비스 메소드는 {@code @Timed("scheduler.service")}로 측정합니다. 히스토그램과 백분위수는 application.properties 에서 설정합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // 기본 Jackson 컨버터 대신 직렬화 시간을 측정하는 컨버터를 등록
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   MeterRegistry meterRegistry) {
+        return new TimedJackson2HttpMessageConverter(objectMapper, meterRegistry);
+    }
+}
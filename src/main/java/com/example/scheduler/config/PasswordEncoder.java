@@ -1,17 +1,191 @@
 package com.example.scheduler.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt로 비밀번호를 암호화하고 검증합니다.
+ *
+ * 해시 계산은 요청 스레드가 아닌 전용 작업 스레드 풀에서 실행되며, 대기열이 가득 차면
+ * {@link RejectedExecutionException}을 던져 즉시 실패합니다(503 응답).
+ * BCrypt cost는 설정값이 없으면 시작 시 목표 지연 시간에 맞춰 보정합니다.
+ * 대기 시간({@code scheduler.password.wait})과 해시 시간({@code scheduler.password.hash}), 거절 횟수, 대기열 길이는
+ * Micrometer 지표로 기록합니다.
+ */
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private static final int MAX_CALIBRATED_COST = 16;
+    private static final char[] CALIBRATION_PASSWORD = "calibration-password".toCharArray();
+
+    private final ThreadPoolExecutor executor;
+    private final int cost;
+
+    private final Timer waitTimer;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordEncoder(@Value("${scheduler.password.threads:0}") int threads,
+                           @Value("${scheduler.password.queue-capacity:100}") int queueCapacity,
+                           @Value("${scheduler.password.cost:0}") int cost,
+                           @Value("${scheduler.password.target-hash-time:250ms}") Duration targetHashTime,
+                           MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.cost = cost > 0 ? cost : calibrateCost(targetHashTime);
+
+        this.waitTimer = Timer.builder("scheduler.password.wait")
+                .description("해시 작업이 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("scheduler.password.hash")
+                .description("BCrypt 해시 계산 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("scheduler.password.rejected")
+                .description("대기열이 가득 차 거절된 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시를 계산 중인 스레드 수")
+                .register(meterRegistry);
+        log.info("BCrypt cost={}, 해시 스레드 수={}, 대기열 크기={}", this.cost, poolSize, queueCapacity);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return execute(() -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 cost와 다른지 확인합니다.
+     * 로그인 성공 시 {@code true}이면 현재 cost로 다시 암호화해야 합니다.
+     *
+     * @param encodedPassword 저장된 BCrypt 해시 ({@code $2a$10$...} 형식)
+     * @return cost가 다르거나 해시 형식을 해석할 수 없으면 {@code true}
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return true;
+        }
+        try {
+            return Integer.parseInt(encodedPassword, 4, 6, 10) != cost;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
     }
 
-    public boolean matches(String rawPassword, String  encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public long getCompletedCount() {
+        return hashTimer.count();
+    }
+
+    public long getRejectedCount() {
+        return (long) rejectedCounter.count();
+    }
+
+    public double getAverageWaitMillis() {
+        return waitTimer.mean(TimeUnit.MILLISECONDS);
+    }
+
+    public double getAverageHashMillis() {
+        return hashTimer.mean(TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 작업 스레드에서 해시를 계산하고, 대기 시간과 해시 시간을 기록
+    private <T> T execute(Callable<T> hashTask) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return hashTask.call();
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 해시 시간이 목표 지연 시간을 넘지 않는 가장 큰 cost를 선택 (cost가 1 증가할 때마다 시간은 약 2배)
+    private static int calibrateCost(Duration targetHashTime) {
+        long targetNanos = targetHashTime.toNanos();
+        int cost = BCrypt.MIN_COST;
+        BCrypt.withDefaults().hash(cost, CALIBRATION_PASSWORD);
+
+        while (cost < MAX_CALIBRATED_COST) {
+            long startedAt = System.nanoTime();
+            BCrypt.withDefaults().hash(cost, CALIBRATION_PASSWORD);
+            long elapsed = System.nanoTime() - startedAt;
+            if (elapsed * 2 > targetNanos) {
+                break;
+            }
+            cost++;
+        }
+        return cost;
     }
 }
@@ -0,0 +1,114 @@
+package com.example.scheduler.config;
+
+import com.example.scheduler.datasource.ReadYourWritesInterceptor;
+import com.example.scheduler.datasource.ReplicaAwareJpaDialect;
+import com.example.scheduler.datasource.ReadYourWritesTracker;
+import com.example.scheduler.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본(replica) 설정입니다.
+ *
+ * {@code scheduler.datasource.replica.url}이 설정된 경우에만 등록되며, 기본 DB({@code spring.datasource.*})와 복제본의
+ * 커넥션 풀을 각각 만들고 {@code @Transactional(readOnly = true)} 트랜잭션을 복제본으로 보냅니다.
+ * 트랜잭션마다 커넥션을 새로 정해야 하므로 OSIV({@code spring.jpa.open-in-view})를 끈 상태에서만 시작됩니다.
+ * 변경 요청을 보낸 사용자는 {@code scheduler.datasource.replica.read-your-writes-window} 동안 기본 DB에서 조회합니다.
+ * 복제본에서 읽은 엔티티는 2차 캐시에 넣지 않습니다({@link ReplicaAwareJpaDialect}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "scheduler.datasource.replica.url")
+public class ReplicaDataSourceConfig implements WebMvcConfigurer {
+
+    private static final long MAX_TRACKED_USERS = 100_000;
+
+    private final Duration readYourWritesWindow;
+
+    public ReplicaDataSourceConfig(
+            @Value("${spring.jpa.open-in-view:true}") boolean openInView,
+            @Value("${scheduler.datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow) {
+        // OSIV 에서는 요청의 첫 트랜잭션이 얻은 커넥션을 요청이 끝날 때까지 사용하므로 읽기/쓰기 구분이 지켜지지 않음
+        if (openInView) {
+            throw new IllegalStateException("복제본을 사용하려면 spring.jpa.open-in-view=false 로 설정해야 합니다.");
+        }
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    // 기본 DB 커넥션 풀, spring.datasource.* 와 spring.datasource.hikari.* 설정 사용
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // 복제본 커넥션 풀, 계정을 지정하지 않으면 기본 DB 계정 사용 (풀 설정은 scheduler.datasource.replica.hikari.*)
+    @Bean
+    @ConfigurationProperties("scheduler.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${scheduler.datasource.replica.url}") String url,
+            @Value("${scheduler.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${scheduler.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // 애플리케이션이 사용하는 DataSource, 첫 SQL 실행 시점에 트랜잭션의 읽기 전용 여부로 대상 풀을 선택
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 복제본 트랜잭션이 2차 캐시를 채우지 않도록 Hibernate 기본 방언 대신 사용 (벤더 어댑터의 방언은 비어 있을 때만 적용됨)
+    @Bean
+    public static BeanPostProcessor replicaAwareJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactoryBean) {
+                    entityManagerFactoryBean.setJpaDialect(new ReplicaAwareJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(readYourWritesWindow, MAX_TRACKED_USERS);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesTracker()))
+                .addPathPatterns("/api/**");
+    }
+}
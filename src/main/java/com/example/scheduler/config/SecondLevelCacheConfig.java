@@ -0,0 +1,38 @@
+package com.example.scheduler.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+
+/**
+ * Hibernate 2차 캐시에 사용할 Caffeine JCache {@link CacheManager}를 생성하여 전달합니다.
+ *
+ * Hibernate의 {@code hibernate.javax.cache.uri}는 {@code classpath:} 접두사를 해석하지 못하고,
+ * 파일 경로로 지정하면 실행 가능한 jar 안에서는 Caffeine이 설정 파일을 읽지 못하므로,
+ * Caffeine이 직접 클래스패스에서 {@code hibernate-jcache.conf}를 읽도록 {@link CacheManager}를 만들어 넘깁니다.
+ * {@link CacheManager}는 SessionFactory가 닫힐 때 Hibernate가 함께 닫습니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final URI CONFIG_URI = URI.create("classpath:hibernate-jcache.conf");
+
+    // 프로바이더는 (URI, 클래스 로더)마다 CacheManager 를 공유하므로, 같은 JVM 의 다른 SessionFactory
+    // (예: 설정이 다른 테스트 컨텍스트)와 캐시가 섞이지 않도록 컨텍스트 전용 클래스 로더로 구분
+    // (CacheManager 는 클래스 로더를 약한 참조로 보관하므로 컨텍스트가 살아 있는 동안 여기서 참조를 유지)
+    private final ClassLoader cacheClassLoader = new ClassLoader(SecondLevelCacheConfig.class.getClassLoader()) {
+    };
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager(CONFIG_URI, cacheClassLoader);
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        };
+    }
+}
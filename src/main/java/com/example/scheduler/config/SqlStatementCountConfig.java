@@ -0,0 +1,24 @@
+package com.example.scheduler.config;
+
+import com.example.scheduler.monitoring.SqlStatementInspector;
+import com.example.scheduler.monitoring.SqlTimingSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청별 SQL 문 수와 실행 시간을 집계하도록 Hibernate에 {@link SqlStatementInspector}와
+ * {@link SqlTimingSessionListener}를 등록합니다.
+ */
+@Configuration
+public class SqlStatementCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCountCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.scheduler.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * {@code vthreads} 프로필용 설정입니다.
+ *
+ * 가상 스레드는 Java 21 이상에서만 동작하며, 그보다 낮은 버전에서는 Spring Boot가
+ * {@code spring.threads.virtual.enabled}를 조용히 무시하므로 시작 시점에 실패시킵니다.
+ * Jackson 출력 버퍼는 스레드별(ThreadLocal)로 재사용되는데, 요청마다 새로 만들어지는 가상 스레드에서는
+ * 재사용되지 않으므로 스레드와 무관한 공유 풀을 사용하도록 바꿉니다.
+ */
+@Configuration
+@Profile("vthreads")
+public class VirtualThreadsConfig {
+
+    private static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadsConfig() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("vthreads 프로필은 Java " + MIN_JAVA_VERSION
+                    + " 이상이 필요합니다. 현재 버전: " + javaVersion);
+        }
+    }
+
+    // 가상 스레드 간에 JSON 생성기 버퍼를 재사용하도록 공유 풀 사용
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sharedJsonRecyclerPool() {
+        return builder -> builder.factory(JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                .build());
+    }
+}
@@ -1,18 +1,50 @@
 package com.example.scheduler.config;
 
+import com.example.scheduler.auth.AuthMode;
+import com.example.scheduler.auth.AuthTokenProvider;
+import com.example.scheduler.auth.LoginUserArgumentResolver;
 import com.example.scheduler.filter.AuthFilter;
+import com.example.scheduler.filter.SqlStatementCountFilter;
+import com.example.scheduler.monitoring.SqlStatementMetrics;
+import com.example.scheduler.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
 
 @Configuration
-public class WebConfig {
+public class WebConfig implements WebMvcConfigurer {
 
     @Bean
-    public FilterRegistrationBean<AuthFilter> authFilter() {
+    public FilterRegistrationBean<AuthFilter> authFilter(
+            @Value("${scheduler.auth.mode:session}") AuthMode authMode,
+            AuthTokenProvider tokenProvider,
+            UserService userService) {
         FilterRegistrationBean<AuthFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new AuthFilter());
+        registrationBean.setFilter(new AuthFilter(authMode, tokenProvider, userService));
+        registrationBean.addUrlPatterns("/api/*");
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementCountFilter> sqlStatementCountFilter(
+            SqlStatementMetrics sqlStatementMetrics,
+            @Value("${scheduler.sql-stats.warn-threshold:50}") int warnThreshold) {
+        FilterRegistrationBean<SqlStatementCountFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new SqlStatementCountFilter(sqlStatementMetrics, warnThreshold));
         registrationBean.addUrlPatterns("/api/*");
+        // 인증 처리 중 실행되는 SQL도 집계되도록 인증 필터보다 먼저 실행
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
         return registrationBean;
     }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new LoginUserArgumentResolver());
+    }
 }
@@ -0,0 +1,181 @@
+package com.example.scheduler.conflict;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 반열린 구간 {@code [start, end)}를 보관하고 주어진 구간과 겹치는 구간을 찾는 구간 트리입니다.
+ *
+ * (시작, ID) 순서의 트립(treap)으로 균형을 유지하고, 각 노드에 하위 트리의 최대 종료 값을 기록하여
+ * 겹칠 수 없는 하위 트리는 내려가지 않습니다. 추가/삭제/겹침 검사는 기대 O(log n)입니다.
+ * ID마다 하나의 구간만 보관하며, 같은 ID로 다시 추가하면 기존 구간을 대체합니다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리해야 합니다.
+ */
+final class IntervalTree {
+
+    static final long NONE = Long.MIN_VALUE;
+
+    private final Map<Long, Node> nodesById = new HashMap<>();
+    private Node root;
+
+    /**
+     * 구간을 추가합니다. 같은 ID의 구간이 있으면 대체합니다.
+     *
+     * @param id    구간 ID
+     * @param start 시작 값 (포함)
+     * @param end   종료 값 (미포함)
+     */
+    void put(long id, long start, long end) {
+        remove(id);
+        Node node = new Node(id, start, end, ThreadLocalRandom.current().nextInt());
+        Node[] parts = split(root, start, id);
+        root = merge(merge(parts[0], node), parts[1]);
+        nodesById.put(id, node);
+    }
+
+    /**
+     * 구간을 제거합니다.
+     *
+     * @param id 제거할 구간 ID
+     */
+    void remove(long id) {
+        Node node = nodesById.remove(id);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * 구간을 조회합니다.
+     *
+     * @param id 구간 ID
+     * @return {@code {start, end}}, 없으면 {@code null}
+     */
+    long[] get(long id) {
+        Node node = nodesById.get(id);
+        return (node != null) ? new long[]{node.start, node.end} : null;
+    }
+
+    /**
+     * {@code [start, end)}와 겹치는 구간 하나를 찾습니다.
+     *
+     * @param start     시작 값 (포함)
+     * @param end       종료 값 (미포함)
+     * @param excludeId 검사에서 제외할 구간 ID (수정 중인 구간 자신)
+     * @return 겹치는 구간의 ID, 없으면 {@link #NONE}
+     */
+    long findOverlap(long start, long end, long excludeId) {
+        return findOverlap(root, start, end, excludeId);
+    }
+
+    int size() {
+        return nodesById.size();
+    }
+
+    private static long findOverlap(Node node, long start, long end, long excludeId) {
+        // 하위 트리의 모든 구간이 start 이전에 끝나면 겹칠 수 없음
+        if (node == null || node.maxEnd <= start) {
+            return NONE;
+        }
+        long found = findOverlap(node.left, start, end, excludeId);
+        if (found != NONE) {
+            return found;
+        }
+        // 이 노드와 오른쪽 하위 트리는 end 이후에 시작하므로 겹칠 수 없음
+        if (node.start >= end) {
+            return NONE;
+        }
+        if (node.end > start && node.id != excludeId) {
+            return node.id;
+        }
+        return findOverlap(node.right, start, end, excludeId);
+    }
+
+    // (start, id) 보다 작은 노드와 크거나 같은 노드로 나눔
+    private static Node[] split(Node node, long start, long id) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(node.start, node.id, start, id) < 0) {
+            Node[] parts = split(node.right, start, id);
+            node.right = parts[0];
+            node.update();
+            parts[0] = node;
+            return parts;
+        }
+        Node[] parts = split(node.left, start, id);
+        node.left = parts[1];
+        node.update();
+        parts[1] = node;
+        return parts;
+    }
+
+    // left 의 모든 노드가 right 의 모든 노드보다 작을 때 두 트리를 합침
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node delete(Node node, Node target) {
+        if (node == null) {
+            return null;
+        }
+        if (node == target) {
+            return merge(node.left, node.right);
+        }
+        if (compare(target.start, target.id, node.start, node.id) < 0) {
+            node.left = delete(node.left, target);
+        } else {
+            node.right = delete(node.right, target);
+        }
+        node.update();
+        return node;
+    }
+
+    private static int compare(long start, long id, long otherStart, long otherId) {
+        int result = Long.compare(start, otherStart);
+        return (result != 0) ? result : Long.compare(id, otherId);
+    }
+
+    private static final class Node {
+        final long id;
+        final long start;
+        final long end;
+        final int priority;
+        long maxEnd;
+        Node left;
+        Node right;
+
+        Node(long id, long start, long end, int priority) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        void update() {
+            long max = end;
+            if (left != null && left.maxEnd > max) {
+                max = left.maxEnd;
+            }
+            if (right != null && right.maxEnd > max) {
+                max = right.maxEnd;
+            }
+            maxEnd = max;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.scheduler.conflict;
+
+import com.example.scheduler.dto.schedule.ScheduleIntervalDto;
+import com.example.scheduler.event.ScheduleDeletedEvent;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 일정 시간 구간을 {@link IntervalTree}로 보관하여 일정 생성/수정 시 시간 겹침을 검사하는 프로세스 내 색인입니다.
+ *
+ * 사용자의 트리는 처음 검사할 때 {@code (user_id, start_at, end_at)} 인덱스로 한 번에 읽어 구축하고,
+ * 이후에는 DB 조회 없이 메모리에서 검사합니다. 검사와 구간 등록은 사용자 ID로 정해지는 잠금을 잡은 상태에서 함께 수행하므로
+ * 같은 노드에서 동시에 들어온 겹치는 요청은 하나만 통과합니다. 잠금은 트리와 별도로 보관하므로 트리가 만료되어 다시 구축되어도 바뀌지 않습니다.
+ *
+ * 구간은 커밋 이전에 등록됩니다. 커밋되지 않은 구간이 있는 사용자의 트리는 트랜잭션이 끝날 때까지 만료와 상관없이 유지되어
+ * DB 기준으로 다시 구축되면서 진행 중인 구간을 잃지 않으며, 트랜잭션이 롤백되면 그 트랜잭션이 바꾼 구간만 되돌립니다.
+ *
+ * 트리는 노드마다 따로 보관되므로 다른 노드에서 저장한 일정은 {@code scheduler.schedule.conflict-index.expire-after-write}가
+ * 지나 트리를 다시 구축한 뒤에 반영됩니다. 통계는 {@code cache.*{cache="schedule-intervals"}} 지표로 노출됩니다.
+ */
+@Component
+public class ScheduleConflictIndex implements MeterBinder {
+
+    private static final int LOCK_STRIPES = 1024;
+
+    private final ScheduleRepository scheduleRepository;
+    private final Cache<Long, IntervalTree> trees;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    // 커밋되지 않은 구간이 있는 사용자의 트리 (사용자 잠금을 잡은 상태에서만 변경)
+    private final Map<Long, PendingTree> pendingTrees = new ConcurrentHashMap<>();
+
+    public ScheduleConflictIndex(ScheduleRepository scheduleRepository,
+                                 @Value("${scheduler.schedule.conflict-index.maximum-size:10000}") long maximumSize,
+                                 @Value("${scheduler.schedule.conflict-index.expire-after-write:1m}") Duration expireAfterWrite) {
+        this.scheduleRepository = scheduleRepository;
+        this.trees = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 새 일정의 시간 구간이 사용자의 다른 일정과 겹치지 않으면 {@code saver}로 일정을 저장하고 구간을 등록합니다.
+     * 쓰기 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param userId  작성자 ID
+     * @param startAt 시작 시각
+     * @param endAt   종료 시각
+     * @param saver   일정을 저장하고 ID를 반환하는 함수 (겹치지 않을 때만 호출됨)
+     * @return {@code saver}가 반환한 일정 ID
+     * @throws IllegalArgumentException 다른 일정과 시간이 겹치는 경우
+     */
+    public Long reserveNew(Long userId, LocalDateTime startAt, LocalDateTime endAt, Supplier<Long> saver) {
+        long start = toMicros(startAt);
+        long end = toMicros(endAt);
+        synchronized (lock(userId)) {
+            IntervalTree tree = tree(userId);
+            checkOverlap(tree, start, end, IntervalTree.NONE);
+            Long scheduleId = saver.get();
+            apply(userId, tree, scheduleId, new long[]{start, end});
+            return scheduleId;
+        }
+    }
+
+    /**
+     * 기존 일정의 시간 구간을 변경합니다. 시작/종료 시각이 {@code null}이면 구간을 제거합니다.
+     * 쓰기 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param userId     작성자 ID
+     * @param scheduleId 일정 ID
+     * @param startAt    새 시작 시각
+     * @param endAt      새 종료 시각
+     * @throws IllegalArgumentException 다른 일정과 시간이 겹치는 경우
+     */
+    public void reserve(Long userId, Long scheduleId, LocalDateTime startAt, LocalDateTime endAt) {
+        synchronized (lock(userId)) {
+            IntervalTree tree = tree(userId);
+            if (startAt == null || endAt == null) {
+                apply(userId, tree, scheduleId, null);
+            } else {
+                long start = toMicros(startAt);
+                long end = toMicros(endAt);
+                checkOverlap(tree, start, end, scheduleId);
+                apply(userId, tree, scheduleId, new long[]{start, end});
+            }
+        }
+    }
+
+    /**
+     * 스케줄 삭제가 커밋된 이후 작성자의 트리에서 구간을 제거합니다.
+     *
+     * @param event 삭제된 스케줄 정보를 담은 {@link ScheduleDeletedEvent}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleDeleted(ScheduleDeletedEvent event) {
+        synchronized (lock(event.getUserId())) {
+            PendingTree pending = pendingTrees.get(event.getUserId());
+            IntervalTree tree = (pending != null) ? pending.tree : trees.getIfPresent(event.getUserId());
+            if (tree != null) {
+                tree.remove(event.getScheduleId());
+            }
+        }
+    }
+
+    /**
+     * 현재 트리를 보관 중인 사용자 수(근사값)를 반환합니다.
+     *
+     * @return 트리 수
+     */
+    public long size() {
+        return trees.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, trees, "schedule-intervals");
+    }
+
+    private Object lock(Long userId) {
+        return locks[Math.floorMod(userId.hashCode(), LOCK_STRIPES)];
+    }
+
+    // 사용자 잠금을 잡은 상태에서 호출, 진행 중인 트랜잭션이 있으면 그 트리를 그대로 사용
+    private IntervalTree tree(Long userId) {
+        PendingTree pending = pendingTrees.get(userId);
+        if (pending != null) {
+            return pending.tree;
+        }
+        return trees.get(userId, key -> {
+            IntervalTree tree = new IntervalTree();
+            for (ScheduleIntervalDto interval : scheduleRepository.findIntervalsByUserId(key)) {
+                tree.put(interval.getId(), toMicros(interval.getStartAt()), toMicros(interval.getEndAt()));
+            }
+            return tree;
+        });
+    }
+
+    private static void checkOverlap(IntervalTree tree, long start, long end, long excludeId) {
+        long conflictId = tree.findOverlap(start, end, excludeId);
+        if (conflictId != IntervalTree.NONE) {
+            throw new IllegalArgumentException("다른 일정과 시간이 겹칩니다: " + conflictId);
+        }
+    }
+
+    // 사용자 잠금을 잡은 상태에서 구간을 반영하고, 트랜잭션 안이면 롤백 시 되돌릴 수 있도록 변경 내용을 기록
+    private void apply(Long userId, IntervalTree tree, long scheduleId, long[] interval) {
+        long[] previous = tree.get(scheduleId);
+        put(tree, scheduleId, interval);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionReservations reservations =
+                (TransactionReservations) TransactionSynchronizationManager.getResource(this);
+        if (reservations == null) {
+            reservations = new TransactionReservations();
+            TransactionSynchronizationManager.bindResource(this, reservations);
+            TransactionSynchronizationManager.registerSynchronization(reservations);
+        }
+        List<Change> changes = reservations.changesByUser.get(userId);
+        if (changes == null) {
+            changes = new ArrayList<>();
+            reservations.changesByUser.put(userId, changes);
+            PendingTree pending = pendingTrees.get(userId);
+            if (pending == null) {
+                pendingTrees.put(userId, new PendingTree(tree));
+            } else {
+                pending.transactions++;
+            }
+        }
+        changes.add(new Change(scheduleId, previous, interval));
+    }
+
+    // 트랜잭션이 끝나면 사용자별로 진행 중 표시를 해제하고, 롤백이면 이 트랜잭션의 변경만 역순으로 되돌림
+    private void complete(Map<Long, List<Change>> changesByUser, boolean committed) {
+        for (Map.Entry<Long, List<Change>> entry : changesByUser.entrySet()) {
+            Long userId = entry.getKey();
+            synchronized (lock(userId)) {
+                PendingTree pending = pendingTrees.get(userId);
+                if (!committed) {
+                    List<Change> changes = entry.getValue();
+                    for (int i = changes.size() - 1; i >= 0; i--) {
+                        Change change = changes.get(i);
+                        // 이후 다른 트랜잭션이 같은 일정의 구간을 바꿨다면 그 값을 유지
+                        if (Arrays.equals(pending.tree.get(change.scheduleId), change.applied)) {
+                            put(pending.tree, change.scheduleId, change.previous);
+                        }
+                    }
+                }
+                if (--pending.transactions == 0) {
+                    pendingTrees.remove(userId);
+                }
+            }
+        }
+    }
+
+    private static void put(IntervalTree tree, long scheduleId, long[] interval) {
+        if (interval == null) {
+            tree.remove(scheduleId);
+        } else {
+            tree.put(scheduleId, interval[0], interval[1]);
+        }
+    }
+
+    // DB 의 datetime(6) 정밀도와 같은 마이크로초 단위로 변환
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static final class PendingTree {
+        final IntervalTree tree;
+        int transactions = 1;
+
+        PendingTree(IntervalTree tree) {
+            this.tree = tree;
+        }
+    }
+
+    private record Change(long scheduleId, long[] previous, long[] applied) {
+    }
+
+    // 한 트랜잭션에서 반영한 구간 변경, 트랜잭션 리소스로 묶어 중첩 트랜잭션의 일시 중지/재개를 따름
+    private final class TransactionReservations implements TransactionSynchronization {
+
+        final Map<Long, List<Change>> changesByUser = new HashMap<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(ScheduleConflictIndex.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ScheduleConflictIndex.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ScheduleConflictIndex.this);
+            complete(changesByUser, status == STATUS_COMMITTED);
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package com.example.scheduler.controller;
 
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.auth.LoginUser;
+import com.example.scheduler.dto.CursorPageResponseDto;
+import com.example.scheduler.dto.ResourceVersionDto;
 import com.example.scheduler.dto.comment.CommentRequestDto;
 import com.example.scheduler.dto.comment.CommentResponseDto;
 import com.example.scheduler.service.CommentService;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 댓글 관리를 위한 REST API 컨트롤러입니다.
@@ -25,43 +29,84 @@ import java.util.Map;
 @RequestMapping("/api/schedules/{scheduleId}/comments")
 public class CommentController {
 
+    // 댓글 생성 응답이 저장 완료(committed)인지 대기열 접수(queued)인지 알려주는 헤더
+    public static final String DURABILITY_HEADER = "X-Comment-Durability";
+
     private final CommentService commentService;
 
     /**
      * 특정 스케줄에 새로운 댓글을 생성합니다.
+     * 쓰기 지연 저장을 사용하면 댓글을 메모리 대기열에 넣고 HTTP 202 Accepted로 응답하며, 이때 댓글은 아직 저장되지 않았으므로
+     * ID와 생성 시각이 비어 있습니다. 202 응답은 저장을 보장하지 않으며, 서버가 비정상 종료되거나 저장 시점에 일정이 삭제되면
+     * 댓글이 버려질 수 있습니다. 즉시 저장한 경우에는 HTTP 201 Created로 응답합니다.
+     * 어느 쪽인지는 {@value #DURABILITY_HEADER} 헤더({@code committed} 또는 {@code queued})로도 알려줍니다.
      *
      * @param scheduleId 댓글을 추가할 대상 스케줄의 고유 ID.
      * @param requestDto 댓글 생성에 필요한 정보를 담은 DTO ({@link CommentRequestDto}). {@code @Valid} 어노테이션으로 유효성 검사가 수행됩니다.
-     * @param request    HTTP 요청 객체. 세션에서 현재 로그인한 사용자의 username(댓글 작성자)을 추출하는 데 사용됩니다.
+     * @param authUser   현재 로그인한 사용자 정보 ({@link AuthUser}). 댓글 작성자로 사용됩니다.
      * @return           생성된 댓글의 상세 정보를 담은 {@link CommentResponseDto}와 HTTP 201 Created 상태 코드를 포함하는 {@link ResponseEntity}.
+     *                   대기열에 들어간 경우 HTTP 202 Accepted 상태 코드를 포함하는 {@link ResponseEntity}.
      */
     @PostMapping
     public ResponseEntity<CommentResponseDto> createComment(
             @PathVariable Long scheduleId,
             @Valid @RequestBody CommentRequestDto requestDto,
-            HttpServletRequest request
+            @LoginUser AuthUser authUser
             ) {
 
-        // 세션에서 사용자 이름 가져오기
-        HttpSession session = request.getSession(false);
-        String username = (session != null) ? (String) session.getAttribute("username") : null;
+        Optional<CommentResponseDto> queued = commentService.queueComment(scheduleId, requestDto, authUser);
+        if (queued.isPresent()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(DURABILITY_HEADER, "queued")
+                    .body(queued.get());
+        }
 
-        CommentResponseDto responseDto = commentService.createComment(scheduleId, requestDto, username);
-        return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
+        CommentResponseDto responseDto = commentService.createComment(scheduleId, requestDto, authUser);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(DURABILITY_HEADER, "committed")
+                .body(responseDto);
     }
 
     /**
      * 특정 스케줄에 등록된 모든 댓글 목록을 조회합니다.
+     * 응답에 댓글 수와 최종 수정 시각으로 만든 ETag 헤더를 포함하며, 요청의 {@code If-None-Match}와 일치하면
+     * 댓글 목록을 조회하지 않고 HTTP 304 Not Modified로 응답합니다.
+     * 댓글 삭제는 최종 수정 시각을 바꾸지 않으므로 Last-Modified 헤더는 사용하지 않습니다.
      *
      * @param scheduleId 댓글 목록을 조회할 대상 스케줄의 고유 ID.
+     * @param webRequest 조건부 요청 헤더를 확인하고 ETag 응답 헤더를 설정하는 데 사용됩니다.
      * @return           해당 스케줄의 댓글 목록 ({@link List}<{@link CommentResponseDto}>)과 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
+     *                   변경되지 않았으면 본문 없이 HTTP 304 Not Modified 상태 코드를 포함하는 {@link ResponseEntity}.
      */
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> getComments(@PathVariable Long scheduleId) {
+    public ResponseEntity<List<CommentResponseDto>> getComments(@PathVariable Long scheduleId, WebRequest webRequest) {
+        ResourceVersionDto version = commentService.getCommentsVersion(scheduleId);
+        if (webRequest.checkNotModified(version.toETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<CommentResponseDto> responseDtos = commentService.getComments(scheduleId);
         return ResponseEntity.ok(responseDtos);
     }
 
+    /**
+     * 특정 스케줄에 등록된 댓글 목록을 커서 기반으로 페이징 조회합니다.
+     * 응답의 {@code nextCursor}를 다음 요청에 전달하여 이어서 조회합니다.
+     *
+     * @param scheduleId 댓글 목록을 조회할 대상 스케줄의 고유 ID.
+     * @param cursor     이전 페이지 응답의 {@code nextCursor} (첫 페이지 조회 시 생략).
+     * @param size       한 페이지에 표시할 댓글 수 (기본값: 20).
+     * @return           댓글 목록과 다음 페이지 커서 ({@link CursorPageResponseDto}<{@link CommentResponseDto}>)와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<CommentResponseDto>> getCommentsWithCursor(
+            @PathVariable Long scheduleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDto<CommentResponseDto> responseDto = commentService.getCommentsWithCursor(scheduleId, cursor, size);
+        return ResponseEntity.ok(responseDto);
+    }
+
     /**
      * 특정 스케줄의 특정 댓글을 수정합니다.
      * 댓글을 작성한 사용자만 수정할 수 있습니다.
@@ -69,7 +114,7 @@ public class CommentController {
      * @param scheduleId 수정할 댓글이 속한 스케줄의 고유 ID. (경로 일관성을 위해 사용)
      * @param commentId  수정할 댓글의 고유 ID.
      * @param requestDto 댓글 수정에 필요한 정보를 담은 DTO ({@link CommentRequestDto}). {@code @Valid} 어노테이션으로 유효성 검사가 수행됩니다.
-     * @param request    HTTP 요청 객체. 세션에서 현재 로그인한 사용자의 username을 추출하여 권한을 확인하는 데 사용됩니다.
+     * @param authUser   현재 로그인한 사용자 정보 ({@link AuthUser}). 권한을 확인하는 데 사용됩니다.
      * @return           수정된 댓글의 상세 정보를 담은 {@link CommentResponseDto}와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
      */
     @PutMapping("/{commentId}")
@@ -77,13 +122,9 @@ public class CommentController {
             @PathVariable Long scheduleId,
             @PathVariable Long commentId,
             @Valid @RequestBody CommentRequestDto requestDto,
-            HttpServletRequest request) {
-
-        // 세션에서 사용자이름 가져오기
-        HttpSession session = request.getSession(false);
-        String username = (session != null) ? (String) session.getAttribute("username") : null;
+            @LoginUser AuthUser authUser) {
 
-        CommentResponseDto responseDto = commentService.updateComment(scheduleId, commentId, requestDto, username);
+        CommentResponseDto responseDto = commentService.updateComment(scheduleId, commentId, requestDto, authUser);
         return ResponseEntity.ok(responseDto);
     }
 
@@ -93,20 +134,17 @@ public class CommentController {
      *
      * @param scheduleId 삭제할 댓글이 속한 스케줄의 고유 ID. (경로 일관성을 위해 사용)
      * @param commentId  삭제할 댓글의 고유 ID.
-     * @param request    HTTP 요청 객체. 세션에서 현재 로그인한 사용자의 username을 추출하여 권한을 확인하는 데 사용됩니다.
+     * @param authUser   현재 로그인한 사용자 정보 ({@link AuthUser}). 권한을 확인하는 데 사용됩니다.
      * @return           삭제 성공 메시지 (예: {"msg": "댓글이 삭제되었습니다."})와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
      */
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Map<String, String>> deleteComment(
             @PathVariable Long scheduleId,
             @PathVariable Long commentId,
-            HttpServletRequest request
+            @LoginUser AuthUser authUser
     ) {
 
-        HttpSession session = request.getSession(false);
-        String username = (session != null) ? (String) session.getAttribute("username") : null;
-
-        commentService.deleteComment(scheduleId, commentId, username);
+        commentService.deleteComment(scheduleId, commentId, authUser);
         return ResponseEntity.ok(Map.of("msg", "댓글이 삭제되었습니다."));
     }
 
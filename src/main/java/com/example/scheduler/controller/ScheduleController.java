@@ -1,18 +1,33 @@
 package com.example.scheduler.controller;
 
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.auth.LoginUser;
+import com.example.scheduler.dto.CursorPageResponseDto;
+import com.example.scheduler.dto.ResourceVersionDto;
+import com.example.scheduler.dto.schedule.ScheduleBatchResponseDto;
+import com.example.scheduler.dto.schedule.ScheduleChangesResponseDto;
 import com.example.scheduler.dto.schedule.SchedulePageResponseDto;
 import com.example.scheduler.dto.schedule.ScheduleRequestDto;
 import com.example.scheduler.dto.schedule.ScheduleResponseDto;
 import com.example.scheduler.service.ScheduleService;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -29,27 +44,46 @@ import java.util.Map;
 @RequestMapping("/api/schedules")
 public class ScheduleController {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final ScheduleService scheduleService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 새로운 스케줄을 생성합니다.
      *
      * @param requestDto 스케줄 생성에 필요한 정보를 담은 DTO ({@link ScheduleRequestDto}). {@code @Valid} 어노테이션으로 유효성 검사가 수행됩니다.
-     * @param request    HTTP 요청 객체. 세션에서 현재 로그인한 사용자의 username을 추출하는 데 사용됩니다.
+     * @param authUser   현재 로그인한 사용자 정보 ({@link AuthUser}). 작성자로 사용됩니다.
      * @return           생성된 스케줄의 상세 정보를 담은 {@link ScheduleResponseDto}와 HTTP 201 Created 상태 코드를 포함하는 {@link ResponseEntity}.
      */
     @PostMapping
     public ResponseEntity<ScheduleResponseDto> createSchedule(
             @Valid @RequestBody ScheduleRequestDto requestDto,
-            HttpServletRequest request) {
-
-        HttpSession session = request.getSession(false);
-        String username = (String) session.getAttribute("username");
+            @LoginUser AuthUser authUser) {
 
-        ScheduleResponseDto responseDto = scheduleService.createSchedule(requestDto, username);
+        ScheduleResponseDto responseDto = scheduleService.createSchedule(requestDto, authUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
+    /**
+     * 여러 개의 스케줄을 한 번에 생성합니다.
+     * 항목별로 유효성 검사를 수행하며, 유효하지 않은 항목이 있어도 나머지 항목은 생성됩니다.
+     *
+     * @param requestDtos 생성할 스케줄 정보 목록 ({@link ScheduleRequestDto}).
+     * @param authUser    현재 로그인한 사용자 정보 ({@link AuthUser}). 작성자로 사용됩니다.
+     * @return            생성된 스케줄과 항목별 오류를 담은 {@link ScheduleBatchResponseDto}.
+     *                    한 건 이상 생성되면 HTTP 201 Created, 모두 실패하면 HTTP 400 Bad Request 상태 코드를 포함하는 {@link ResponseEntity}.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ScheduleBatchResponseDto> createSchedules(
+            @RequestBody List<ScheduleRequestDto> requestDtos,
+            @LoginUser AuthUser authUser) {
+
+        ScheduleBatchResponseDto responseDto = scheduleService.createSchedules(requestDtos, authUser);
+        HttpStatus status = responseDto.getCreated().isEmpty() ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(responseDto);
+    }
+
     /**
      * 등록된 모든 스케줄 목록을 조회합니다.
      *
@@ -61,15 +95,55 @@ public class ScheduleController {
         return ResponseEntity.ok(responseDtos);
     }
 
+    /**
+     * 등록된 모든 스케줄 목록을 NDJSON(한 줄에 하나의 JSON 객체) 형식으로 스트리밍합니다.
+     * {@code Accept: application/x-ndjson} 요청 시 사용되며, 전체 목록을 메모리에 올리지 않고
+     * DB에서 읽는 즉시 응답으로 내보내므로 스케줄 수와 관계없이 일정한 메모리만 사용합니다.
+     *
+     * @return 스케줄을 한 줄씩 기록하는 {@link StreamingResponseBody}와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
+     */
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSchedules() {
+        ObjectWriter writer = objectMapper.writerFor(ScheduleResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                scheduleService.streamSchedules(responseDto -> {
+                    try {
+                        writer.writeValue(generator, responseDto);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
     /**
      * 특정 ID에 해당하는 스케줄의 상세 정보를 조회합니다.
+     * 응답에 ETag와 Last-Modified 헤더를 포함하며, 요청의 {@code If-None-Match}/{@code If-Modified-Since}와 일치하면
+     * 스케줄 본문을 조회하지 않고 HTTP 304 Not Modified로 응답합니다.
      *
-     * @param id 조회할 스케줄의 고유 ID ({@link com.example.scheduler.entity.Schedule#getId()}).
+     * @param id         조회할 스케줄의 고유 ID ({@link com.example.scheduler.entity.Schedule#getId()}).
+     * @param webRequest 조건부 요청 헤더를 확인하고 ETag/Last-Modified 응답 헤더를 설정하는 데 사용됩니다.
      * @return   조회된 스케줄의 상세 정보 ({@link ScheduleResponseDto})와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
+     *           변경되지 않았으면 본문 없이 HTTP 304 Not Modified 상태 코드를 포함하는 {@link ResponseEntity}.
      *           해당 ID의 스케줄이 없을 경우 서비스 레이어에서 예외가 발생할 수 있습니다.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ScheduleResponseDto> getSchedule(@PathVariable Long id) {
+    public ResponseEntity<ScheduleResponseDto> getSchedule(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersionDto version = scheduleService.getScheduleVersion(id);
+        if (webRequest.checkNotModified(version.toETag(), version.getLastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         ScheduleResponseDto responseDto = scheduleService.getSchedule(id);
         return ResponseEntity.ok(responseDto);
     }
@@ -80,19 +154,16 @@ public class ScheduleController {
      *
      * @param id         수정할 스케줄의 고유 ID ({@link com.example.scheduler.entity.Schedule#getId()}).
      * @param requestDto 스케줄 수정에 필요한 정보를 담은 DTO ({@link ScheduleRequestDto}). {@code @Valid} 어노테이션으로 유효성 검사가 수행됩니다.
-     * @param request    HTTP 요청 객체. 세션에서 현재 로그인한 사용자의 username을 추출하여 권한을 확인하는 데 사용됩니다.
+     * @param authUser   현재 로그인한 사용자 정보 ({@link AuthUser}). 권한을 확인하는 데 사용됩니다.
      * @return           수정된 스케줄의 상세 정보 ({@link ScheduleResponseDto})와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
      */
     @PutMapping("/{id}")
     public ResponseEntity<ScheduleResponseDto> updateSchedule(
             @PathVariable Long id,
             @Valid @RequestBody ScheduleRequestDto requestDto,
-            HttpServletRequest request) {
-
-        HttpSession session = request.getSession(false);
-        String username = (String) session.getAttribute("username");
+            @LoginUser AuthUser authUser) {
 
-        ScheduleResponseDto responseDto = scheduleService.updateSchedule(id, requestDto, username);
+        ScheduleResponseDto responseDto = scheduleService.updateSchedule(id, requestDto, authUser);
         return ResponseEntity.ok(responseDto);
     }
 
@@ -101,19 +172,88 @@ public class ScheduleController {
      * 스케줄을 작성한 사용자만 삭제할 수 있습니다.
      *
      * @param id      삭제할 스케줄의 고유 ID ({@link com.example.scheduler.entity.Schedule#getId()}).
-     * @param request HTTP 요청 객체. 세션에서 현재 로그인한 사용자의 username을 추출하여 권한을 확인하는 데 사용됩니다.
+     * @param authUser 현재 로그인한 사용자 정보 ({@link AuthUser}). 권한을 확인하는 데 사용됩니다.
      * @return        삭제 성공 메시지 (예: {"msg": "일정이 삭제되었습니다."})와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, String>> deleteSchedule(@PathVariable Long id,
-                                                              HttpServletRequest request) {
-        HttpSession session = request.getSession();
-        String username = (String) session.getAttribute("username");
-
-        scheduleService.deleteSchedule(id, username);
+                                                              @LoginUser AuthUser authUser) {
+        scheduleService.deleteSchedule(id, authUser);
         return ResponseEntity.ok(Map.of("msg", "일정이 삭제되었습니다."));
     }
 
+    /**
+     * 여러 개의 스케줄을 한 번에 삭제합니다.
+     * 모든 스케줄을 요청한 사용자가 작성한 경우에만 삭제되며, 연관된 댓글도 함께 삭제됩니다.
+     *
+     * @param ids      삭제할 스케줄의 ID 목록 (예: {@code ?ids=1,2,3}).
+     * @param authUser 현재 로그인한 사용자 정보 ({@link AuthUser}). 권한을 확인하는 데 사용됩니다.
+     * @return         삭제 성공 메시지와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
+     */
+    @DeleteMapping
+    public ResponseEntity<Map<String, String>> deleteSchedules(@RequestParam List<Long> ids,
+                                                               @LoginUser AuthUser authUser) {
+        int deletedCount = scheduleService.deleteSchedules(ids, authUser);
+        return ResponseEntity.ok(Map.of("msg", "일정 " + deletedCount + "개가 삭제되었습니다."));
+    }
+
+    /**
+     * 커서 이후 생성/수정/삭제된 스케줄만 조회합니다 (클라이언트 증분 동기화).
+     * 첫 동기화 시에는 커서 없이 호출하고, 이후에는 이전 응답의 {@code nextCursor}를 전달합니다.
+     *
+     * @param since 이전 응답의 {@code nextCursor} (전체 동기화 시 생략).
+     * @param size  스케줄과 삭제 ID를 각각 최대 몇 개까지 조회할지 (기본값: 100).
+     * @return      변경된 스케줄, 삭제된 스케줄 ID, 다음 커서 ({@link ScheduleChangesResponseDto})와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ScheduleChangesResponseDto> getScheduleChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+
+        ScheduleChangesResponseDto responseDto = scheduleService.getScheduleChanges(since, size);
+        return ResponseEntity.ok(responseDto);
+    }
+
+    /**
+     * 지정한 기간과 시간이 겹치는 스케줄을 시작 시각 순으로 조회합니다.
+     * 응답의 {@code nextCursor}를 다음 요청에 전달하여 이어서 조회합니다.
+     *
+     * @param from   조회 시작 시각 (포함, 예: {@code 2025-05-01T00:00:00}).
+     * @param to     조회 종료 시각 (미포함).
+     * @param cursor 이전 페이지 응답의 {@code nextCursor} (첫 페이지 조회 시 생략).
+     * @param size   한 페이지에 표시할 항목 수 (기본값: 100).
+     * @return       스케줄 목록과 다음 페이지 커서 ({@link CursorPageResponseDto}<{@link ScheduleResponseDto}>)와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
+     */
+    @GetMapping("/range")
+    public ResponseEntity<CursorPageResponseDto<ScheduleResponseDto>> getSchedulesInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+
+        CursorPageResponseDto<ScheduleResponseDto> responseDto = scheduleService.getSchedulesInRange(from, to, cursor, size);
+        return ResponseEntity.ok(responseDto);
+    }
+
+    /**
+     * 제목과 내용으로 스케줄을 검색합니다.
+     *
+     * @param query 검색어.
+     * @param size  최대 결과 수 (기본값: 10).
+     * @return      관련도 순으로 정렬된 스케줄 목록 ({@link List}<{@link ScheduleResponseDto}>)과 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ScheduleResponseDto>> searchSchedules(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+
+        List<ScheduleResponseDto> responseDtos = scheduleService.searchSchedules(query, size);
+        return ResponseEntity.ok(responseDtos);
+    }
+
     /**
      * 스케줄 목록을 페이징 처리하여 조회합니다.
      *
@@ -130,4 +270,22 @@ public class ScheduleController {
         Page<SchedulePageResponseDto> responseDtos = scheduleService.getSchedulesWithPaging(page, size);
         return ResponseEntity.ok(responseDtos);
     }
+
+    /**
+     * 스케줄 목록을 커서 기반으로 페이징 조회합니다.
+     * 전체 개수를 계산하지 않으며, 응답의 {@code nextCursor}를 다음 요청에 전달하여 이어서 조회합니다.
+     *
+     * @param cursor 이전 페이지 응답의 {@code nextCursor} (첫 페이지 조회 시 생략).
+     * @param size   한 페이지에 표시할 항목 수 (기본값: 10).
+     * @return       스케줄 목록과 다음 페이지 커서 ({@link CursorPageResponseDto}<{@link SchedulePageResponseDto}>)와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<SchedulePageResponseDto>> getSchedulesWithCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+
+        CursorPageResponseDto<SchedulePageResponseDto> responseDto = scheduleService.getSchedulesWithCursor(cursor, size);
+        return ResponseEntity.ok(responseDto);
+    }
 }
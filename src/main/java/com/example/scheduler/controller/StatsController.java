@@ -0,0 +1,107 @@
+package com.example.scheduler.controller;
+
+import com.example.scheduler.cache.ScheduleCache;
+import com.example.scheduler.config.PasswordEncoder;
+import com.example.scheduler.monitoring.SqlStatementMetrics;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 내부 통계를 조회하기 위한 REST API 컨트롤러입니다.
+ *
+ * 캐시 크기 조정 등 운영에 필요한 지표를 제공합니다.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    // 엔티티의 @Cache / @NaturalIdCache 에 지정한 Hibernate 2차 캐시 영역
+    private static final List<String> SECOND_LEVEL_CACHE_REGIONS = List.of("user", "user-natural-id", "schedule");
+
+    private final ScheduleCache scheduleCache;
+    private final PasswordEncoder passwordEncoder;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    /**
+     * 캐시별 적중/실패/제거 통계를 조회합니다.
+     * 스케줄 응답 캐시와 함께 Hibernate 2차 캐시 영역별 적중/실패/저장 횟수를 포함합니다.
+     *
+     * @return 캐시 이름을 키로 하는 통계 정보와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats() {
+        CacheStats stats = scheduleCache.stats();
+
+        Map<String, Object> scheduleStats = new LinkedHashMap<>();
+        scheduleStats.put("size", scheduleCache.size());
+        scheduleStats.put("hitCount", stats.hitCount());
+        scheduleStats.put("missCount", stats.missCount());
+        scheduleStats.put("hitRate", stats.hitRate());
+        scheduleStats.put("evictionCount", stats.evictionCount());
+
+        Map<String, Map<String, Object>> caches = new LinkedHashMap<>();
+        caches.put("schedule", scheduleStats);
+
+        // Hibernate 2차 캐시 영역 (hibernate.generate_statistics=true 일 때 집계됨)
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : SECOND_LEVEL_CACHE_REGIONS) {
+            CacheRegionStatistics regionStats = statistics.getDomainDataRegionStatistics(region);
+            if (regionStats == null) {
+                continue;
+            }
+            long requests = regionStats.getHitCount() + regionStats.getMissCount();
+
+            Map<String, Object> secondLevelStats = new LinkedHashMap<>();
+            secondLevelStats.put("size", regionStats.getElementCountInMemory());
+            secondLevelStats.put("hitCount", regionStats.getHitCount());
+            secondLevelStats.put("missCount", regionStats.getMissCount());
+            secondLevelStats.put("hitRate", requests == 0 ? 1.0 : (double) regionStats.getHitCount() / requests);
+            secondLevelStats.put("putCount", regionStats.getPutCount());
+            caches.put("hibernate." + region, secondLevelStats);
+        }
+        return ResponseEntity.ok(caches);
+    }
+
+    /**
+     * 비밀번호 해시 작업 스레드 풀의 상태와 처리 시간 통계를 조회합니다.
+     *
+     * @return 대기열 길이, 평균 대기/해시 시간, 거절 횟수 등과 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}
+     */
+    @GetMapping("/password-encoder")
+    public ResponseEntity<Map<String, Object>> getPasswordEncoderStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cost", passwordEncoder.getCost());
+        stats.put("poolSize", passwordEncoder.getPoolSize());
+        stats.put("activeCount", passwordEncoder.getActiveCount());
+        stats.put("queueDepth", passwordEncoder.getQueueDepth());
+        stats.put("completedCount", passwordEncoder.getCompletedCount());
+        stats.put("rejectedCount", passwordEncoder.getRejectedCount());
+        stats.put("averageWaitMillis", passwordEncoder.getAverageWaitMillis());
+        stats.put("averageHashMillis", passwordEncoder.getAverageHashMillis());
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 엔드포인트별 요청당 SQL 문 수와 실행 시간 통계를 조회합니다.
+     *
+     * @return "HTTP 메소드 URL 패턴"을 키로 하는 요청 수, 평균/최대 SQL 문 수, 평균 실행 시간과 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}
+     */
+    @GetMapping("/sql")
+    public ResponseEntity<Map<String, Map<String, Object>>> getSqlStats() {
+        return ResponseEntity.ok(sqlStatementMetrics.snapshot());
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.scheduler.controller;
 
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.auth.LoginUser;
 import com.example.scheduler.dto.user.LoginRequestDto;
 import com.example.scheduler.dto.user.UserRequestDto;
 import com.example.scheduler.dto.user.UserResponseDto;
@@ -14,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -72,28 +75,29 @@ public class UserController {
      *
      * @param id           수정할 사용자의 고유 ID
      * @param requestDto   사용자 정보 수정에 필요한 정보를 담은 DTO
-     * @param request      HTTP 요청객체. 사용자 인증/인가 정보를 확인하는 데 사용될 수 있습니다.
+     * @param authUser     현재 로그인한 사용자 정보 ({@link AuthUser}). 권한을 확인하는 데 사용됩니다.
      * @return             수정된 사용자의 정보 {@link UserResponseDto} 와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}
      */
     @PutMapping("/{id}")
     public ResponseEntity<UserResponseDto> updateUser(
             @PathVariable Long id,
             @Valid @RequestBody UserUpdateRequestDto requestDto,
-            HttpServletRequest request) {
-        UserResponseDto responseDto = userService.updateUser(id, requestDto, request);
+            @LoginUser AuthUser authUser) {
+        UserResponseDto responseDto = userService.updateUser(id, requestDto, authUser);
         return ResponseEntity.ok(responseDto);
     }
 
     /**
      * 특정 ID에 해당하는 사용자를 삭제합니다. (회원 탈퇴)
-     * 일반적으로 자신의 계정만 삭제 가능하도록 하거나, 관리자 권한이 필요합니다.
+     * 자신의 계정만 삭제할 수 있습니다.
      *
-     * @param id    삭제할 사용자의 고유 ID
-     * @return      삭제 성공메세지와 HTTP 200 OK 상태코드를 포함하는 {@link ResponseEntity}
+     * @param id        삭제할 사용자의 고유 ID
+     * @param authUser  현재 로그인한 사용자 정보 ({@link AuthUser}). 권한을 확인하는 데 사용됩니다.
+     * @return          삭제 성공메세지와 HTTP 200 OK 상태코드를 포함하는 {@link ResponseEntity}
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Map<String, String>> deleteUser(@PathVariable Long id) {
-        userService.deleteUser(id);
+    public ResponseEntity<Map<String, String>> deleteUser(@PathVariable Long id, @LoginUser AuthUser authUser) {
+        userService.deleteUser(id, authUser);
         return ResponseEntity.ok(Map.of("msg", "사용자가 삭제되었습니다."));
     }
 
@@ -102,8 +106,8 @@ public class UserController {
      *
      * @param requestDto    로그인에 필요한 사용자명(또는 이메일)과 비밀번호를 담은 DTO
      * @param request       HTTP 요청객체. 세션 관리에 사용될 수 있습니다.
-     * @param response      HTTP 요청객체. 쿠키 설정 또는 헤더 추가 등에 사용될 수 있습니다.
-     * @return              로그인 성공 메세지와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}
+     * @param response      HTTP 요청객체. 토큰 방식에서 발급한 토큰을 헤더에 추가하는 데 사용됩니다.
+     * @return              로그인 성공 메세지(토큰 방식이면 발급된 토큰 포함)와 HTTP 200 OK 상태 코드를 포함하는 {@link ResponseEntity}
      */
     @PostMapping("/login")
     public ResponseEntity<Map<String, String>> login(
@@ -111,8 +115,14 @@ public class UserController {
             HttpServletRequest request,
             HttpServletResponse response
             ) {
-        userService.login(requestDto, request, response);
-        return ResponseEntity.ok(Map.of("msg", "로그인 성공"));
+        String token = userService.login(requestDto, request, response);
+
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("msg", "로그인 성공");
+        if (token != null) {
+            body.put("token", token);
+        }
+        return ResponseEntity.ok(body);
 
     }
 }
@@ -0,0 +1,57 @@
+package com.example.scheduler.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 복제본 대신 기본(primary) DB를 사용하도록 현재 스레드를 고정합니다.
+ *
+ * 복제 지연이 허용되지 않는 조회(여러 사용자가 공유하는 캐시를 채우는 조회, 변경 피드 등)와
+ * 방금 변경한 사용자의 후속 요청(read-your-writes)에 사용합니다.
+ * 고정은 중첩될 수 있으며, 가장 바깥 구간이 끝날 때 해제됩니다. 복제본을 설정하지 않은 경우에는 아무 효과가 없습니다.
+ */
+public final class PrimaryDataSourceContext {
+
+    private static final ThreadLocal<Integer> DEPTH = new ThreadLocal<>();
+
+    private PrimaryDataSourceContext() {
+    }
+
+    /**
+     * 현재 스레드를 기본 DB에 고정합니다. 반드시 {@link #release()}와 짝을 이루어 호출해야 합니다.
+     */
+    public static void pin() {
+        Integer depth = DEPTH.get();
+        DEPTH.set(depth == null ? 1 : depth + 1);
+    }
+
+    /**
+     * {@link #pin()}으로 설정한 고정을 한 단계 해제합니다.
+     */
+    public static void release() {
+        Integer depth = DEPTH.get();
+        if (depth == null || depth <= 1) {
+            DEPTH.remove();
+        } else {
+            DEPTH.set(depth - 1);
+        }
+    }
+
+    /**
+     * 기본 DB에 고정된 상태에서 {@code action}을 실행합니다.
+     *
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T call(Supplier<T> action) {
+        pin();
+        try {
+            return action.get();
+        } finally {
+            release();
+        }
+    }
+
+    static boolean isPinned() {
+        return DEPTH.get() != null;
+    }
+}
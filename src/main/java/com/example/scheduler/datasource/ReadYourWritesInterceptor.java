@@ -0,0 +1,65 @@
+package com.example.scheduler.datasource;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.filter.AuthFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 최근에 데이터를 변경한 사용자의 요청을 기본 DB에 고정하고, 변경 요청이 성공하면 그 사용자를 기록합니다.
+ *
+ * 변경 요청은 상태를 바꾸는 HTTP 메소드(POST, PUT, PATCH, DELETE)로 판단하며, 인증되지 않은 요청은 처리하지 않습니다.
+ * 비동기 요청(NDJSON 스트리밍)의 응답 스레드에는 고정이 전달되지 않습니다.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PINNED_ATTRIBUTE = ReadYourWritesInterceptor.class.getName() + ".PINNED";
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesInterceptor(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthFilter.AUTH_USER_ATTRIBUTE);
+        if (authUser != null && tracker.hasRecentWrite(authUser.getId())) {
+            PrimaryDataSourceContext.pin();
+            request.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        releasePin(request);
+
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthFilter.AUTH_USER_ATTRIBUTE);
+        if (authUser != null && isWriteMethod(request.getMethod()) && ex == null && response.getStatus() < 400) {
+            tracker.recordWrite(authUser.getId());
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // 요청 스레드가 비동기 처리로 넘어가면 afterCompletion 이 호출되지 않으므로 여기서 해제
+        releasePin(request);
+    }
+
+    private static void releasePin(HttpServletRequest request) {
+        if (request.getAttribute(PINNED_ATTRIBUTE) != null) {
+            request.removeAttribute(PINNED_ATTRIBUTE);
+            PrimaryDataSourceContext.release();
+        }
+    }
+
+    private static boolean isWriteMethod(String method) {
+        return HttpMethod.POST.matches(method) || HttpMethod.PUT.matches(method)
+                || HttpMethod.PATCH.matches(method) || HttpMethod.DELETE.matches(method);
+    }
+}
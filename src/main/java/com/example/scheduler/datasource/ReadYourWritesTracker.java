@@ -0,0 +1,48 @@
+package com.example.scheduler.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 최근에 데이터를 변경한 사용자를 기록합니다.
+ *
+ * 변경은 기본 DB에 커밋된 뒤 복제본에 늦게 반영되므로, 변경한 사용자의 요청은 설정한 시간 동안
+ * 복제본 대신 기본 DB에서 조회하여 방금 자신이 변경한 내용을 볼 수 있게 합니다.
+ * 시간은 복제 지연의 최댓값보다 길게 설정합니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    /**
+     * @param window      변경 후 기본 DB에서 조회할 시간
+     * @param maximumSize 기록할 최대 사용자 수
+     */
+    public ReadYourWritesTracker(Duration window, long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 사용자의 변경을 기록합니다. 이미 기록된 사용자는 시간이 다시 시작됩니다.
+     *
+     * @param userId 변경한 사용자의 ID
+     */
+    public void recordWrite(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    /**
+     * 사용자가 최근에 데이터를 변경했는지 확인합니다.
+     *
+     * @param userId 확인할 사용자의 ID
+     * @return 설정한 시간 안에 변경한 적이 있으면 {@code true}
+     */
+    public boolean hasRecentWrite(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.scheduler.datasource;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * 복제본으로 보내지는 트랜잭션의 세션이 2차 캐시를 읽기만 하도록 캐시 저장 모드를 {@link CacheStoreMode#BYPASS}로 설정하는
+ * {@link HibernateJpaDialect}입니다.
+ *
+ * 복제본에서 읽은 행은 기본 DB보다 오래되었을 수 있으므로, 이를 모든 세션이 공유하는 2차 캐시(엔티티/쿼리 결과)에 넣으면
+ * 기본 DB에 고정된 조회도 캐시에서 오래된 값을 보게 됩니다. 캐시에 이미 있는 값은 기본 DB 기준으로 채워진 것이므로 그대로 읽습니다.
+ * {@link ReplicaRoutingDataSource}와 같은 기준(읽기 전용이고 {@link PrimaryDataSourceContext}로 고정되지 않음)으로 판단합니다.
+ * {@code EntityManager#find}는 세션 속성의 캐시 모드로 조회하므로 세션의 캐시 모드 대신 JPA 속성으로 설정합니다.
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || PrimaryDataSourceContext.isPinned()) {
+            return transactionData;
+        }
+        Object previousStoreMode = entityManager.getProperties().get(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE);
+        entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        return new ReplicaTransactionData(transactionData, entityManager,
+                (previousStoreMode != null) ? previousStoreMode : CacheStoreMode.USE);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaTransactionData replicaData) {
+            if (replicaData.entityManager().isOpen()) {
+                replicaData.entityManager().setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE,
+                        replicaData.previousStoreMode());
+            }
+            super.cleanupTransaction(replicaData.delegate());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+
+    private record ReplicaTransactionData(Object delegate, EntityManager entityManager, Object previousStoreMode) {
+    }
+}
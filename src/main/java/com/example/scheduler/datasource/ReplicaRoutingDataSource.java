@@ -0,0 +1,35 @@
+package com.example.scheduler.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션({@code @Transactional(readOnly = true)})은 복제본으로, 그 외에는 기본 DB로 커넥션을 요청하는 {@link DataSource}입니다.
+ *
+ * 커넥션을 얻는 시점에 트랜잭션의 읽기 전용 여부를 판단하므로, 트랜잭션 설정이 끝난 뒤 첫 SQL 실행 시점에 커넥션을 얻도록
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용해야 합니다.
+ * {@link PrimaryDataSourceContext}로 고정된 스레드와 트랜잭션 밖의 조회는 기본 DB를 사용합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PrimaryDataSourceContext.isPinned()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
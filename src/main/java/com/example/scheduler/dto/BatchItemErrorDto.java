@@ -0,0 +1,25 @@
+package com.example.scheduler.dto;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 일괄 요청 중 처리하지 못한 항목의 오류 정보를 담는 데이터 전송 객체(DTO)입니다.
+ */
+@Getter
+public class BatchItemErrorDto {
+    private int index;
+    private Map<String, String> errors;
+
+    /**
+     * 실패한 항목의 위치와 오류 메시지로 {@link BatchItemErrorDto}를 생성합니다.
+     *
+     * @param index  요청 목록에서 실패한 항목의 위치 (0부터 시작)
+     * @param errors 필드명을 키로 하는 오류 메시지
+     */
+    public BatchItemErrorDto(int index, Map<String, String> errors) {
+        this.index = index;
+        this.errors = errors;
+    }
+}
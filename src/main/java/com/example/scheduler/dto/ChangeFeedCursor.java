@@ -0,0 +1,65 @@
+package com.example.scheduler.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드 조회에 사용되는 커서입니다.
+ * 생성/수정된 스케줄과 삭제 기록(tombstone)을 각각 어디까지 전달했는지를 두 개의 {@link KeysetCursor}로 보관하며,
+ * 클라이언트에게는 두 커서를 {@code '.'}으로 이어 붙인 문자열로 전달됩니다.
+ */
+@Getter
+public class ChangeFeedCursor {
+    private static final char SEPARATOR = '.';
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final KeysetCursor schedulePosition;
+    private final KeysetCursor tombstonePosition;
+
+    /**
+     * 스케줄과 삭제 기록의 위치로 {@link ChangeFeedCursor}를 생성합니다.
+     *
+     * @param schedulePosition  마지막으로 전달한 스케줄의 (수정일, ID)
+     * @param tombstonePosition 마지막으로 전달한 삭제 기록의 (삭제일, ID)
+     */
+    public ChangeFeedCursor(KeysetCursor schedulePosition, KeysetCursor tombstonePosition) {
+        this.schedulePosition = schedulePosition;
+        this.tombstonePosition = tombstonePosition;
+    }
+
+    /**
+     * 처음부터 조회하는 커서를 반환합니다 (전체 동기화).
+     *
+     * @return 모든 변경 이전을 가리키는 {@link ChangeFeedCursor}
+     */
+    public static ChangeFeedCursor beginning() {
+        return new ChangeFeedCursor(new KeysetCursor(BEGINNING, 0L), new KeysetCursor(BEGINNING, 0L));
+    }
+
+    /**
+     * 커서를 클라이언트에게 전달할 문자열로 변환합니다.
+     *
+     * @return 인코딩된 커서 문자열
+     */
+    public String encode() {
+        return schedulePosition.encode() + SEPARATOR + tombstonePosition.encode();
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     *
+     * @param cursor {@link #encode()}로 생성된 커서 문자열
+     * @return 해석된 {@link ChangeFeedCursor}
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우 발생
+     */
+    public static ChangeFeedCursor decode(String cursor) {
+        int separatorIndex = cursor.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return new ChangeFeedCursor(
+                KeysetCursor.decode(cursor.substring(0, separatorIndex)),
+                KeysetCursor.decode(cursor.substring(separatorIndex + 1)));
+    }
+}
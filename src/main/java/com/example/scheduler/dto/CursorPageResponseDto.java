@@ -0,0 +1,30 @@
+package com.example.scheduler.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이징 조회 응답 시 사용되는 데이터 전송 객체(DTO)입니다.
+ * 전체 개수(COUNT)를 계산하지 않으며, 다음 페이지 조회에 사용할 커서만 함께 전달합니다.
+ *
+ * @param <T> 페이지에 포함된 항목의 타입
+ */
+@Getter
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * 조회된 항목과 다음 페이지 커서를 기반으로 {@link CursorPageResponseDto}를 생성합니다.
+     *
+     * @param content    현재 페이지의 항목 목록
+     * @param nextCursor 다음 페이지 조회에 사용할 커서. 다음 페이지가 없으면 {@code null}
+     */
+    public CursorPageResponseDto(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.scheduler.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이징에 사용되는 커서입니다.
+ * 정렬 기준 시각과 동일 시각 내 정렬을 보장하기 위한 ID로 구성되며,
+ * 클라이언트에게는 내부 구조를 알 수 없는 Base64(URL-safe) 문자열로 전달됩니다.
+ */
+@Getter
+public class KeysetCursor {
+    private static final char SEPARATOR = ',';
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    /**
+     * 정렬 기준 시각과 ID로 {@link KeysetCursor}를 생성합니다.
+     *
+     * @param timestamp 마지막으로 조회된 항목의 정렬 기준 시각
+     * @param id        마지막으로 조회된 항목의 ID
+     */
+    public KeysetCursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    /**
+     * 커서를 클라이언트에게 전달할 문자열로 변환합니다.
+     *
+     * @return Base64(URL-safe)로 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     *
+     * @param cursor {@link #encode()}로 생성된 커서 문자열
+     * @return 해석된 {@link KeysetCursor}
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우 발생
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            LocalDateTime timestamp = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new KeysetCursor(timestamp, id);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 및 Base64 디코딩 오류도 IllegalArgumentException 의 하위 타입
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.scheduler.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조건부 조회(ETag / Last-Modified)에 사용하는 리소스 버전 정보입니다.
+ *
+ * 응답 DTO를 만들기 전에 행 수와 최종 수정 시각만 조회하여 생성하며, 응답에 포함되는 작성자 사용자명이
+ * 바뀌어도 버전이 달라지도록 작성자의 최종 수정 시각도 함께 보관합니다.
+ */
+@Getter
+public class ResourceVersionDto {
+    private final long count;
+    private final LocalDateTime lastModifiedAt;
+    private final LocalDateTime authorModifiedAt;
+
+    /**
+     * 집계 결과로 {@link ResourceVersionDto}를 생성합니다.
+     *
+     * @param count            리소스를 구성하는 행 수
+     * @param lastModifiedAt   행들의 최종 수정 시각 (행이 없으면 {@code null})
+     * @param authorModifiedAt 작성자들의 최종 수정 시각 (행이 없으면 {@code null})
+     */
+    public ResourceVersionDto(Long count, LocalDateTime lastModifiedAt, LocalDateTime authorModifiedAt) {
+        this.count = count;
+        this.lastModifiedAt = lastModifiedAt;
+        this.authorModifiedAt = authorModifiedAt;
+    }
+
+    /**
+     * 강한 ETag 값을 생성합니다. 행 수와 마이크로초 단위의 수정 시각으로 구성되므로
+     * 행이 추가/수정/삭제되거나 작성자 정보가 바뀌면 값이 달라집니다.
+     *
+     * @return 따옴표로 감싼 ETag 문자열
+     */
+    public String toETag() {
+        return "\"" + count + "-" + toEpochMicros(lastModifiedAt) + "-" + toEpochMicros(authorModifiedAt) + "\"";
+    }
+
+    /**
+     * Last-Modified 헤더에 사용할 시각을 반환합니다.
+     *
+     * @return 행과 작성자의 수정 시각 중 늦은 시각 (epoch 밀리초), 행이 없으면 {@code -1}
+     */
+    public long getLastModifiedMillis() {
+        if (lastModifiedAt == null) {
+            return -1;
+        }
+        LocalDateTime latest = (authorModifiedAt != null && authorModifiedAt.isAfter(lastModifiedAt))
+                ? authorModifiedAt
+                : lastModifiedAt;
+        return latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        if (time == null) {
+            return 0L;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), time);
+    }
+}
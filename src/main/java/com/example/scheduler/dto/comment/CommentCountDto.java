@@ -0,0 +1,23 @@
+package com.example.scheduler.dto.comment;
+
+import lombok.Getter;
+
+/**
+ * 일정별 댓글 수 집계 결과를 담는 데이터 전송 객체(DTO)입니다.
+ */
+@Getter
+public class CommentCountDto {
+    private Long scheduleId;
+    private Long count;
+
+    /**
+     * 일정 ID와 댓글 수로 {@link CommentCountDto}를 생성합니다.
+     *
+     * @param scheduleId 일정 ID
+     * @param count      해당 일정의 댓글 수
+     */
+    public CommentCountDto(Long scheduleId, Long count) {
+        this.scheduleId = scheduleId;
+        this.count = count;
+    }
+}
@@ -29,4 +29,38 @@ public class CommentResponseDto {
         this.createdAt = comment.getCreatedAt();
         this.modifiedAt = comment.getModifiedAt();
     }
+
+    /**
+     * {@link Comment} 엔티티와 작성자의 사용자명으로 {@link CommentResponseDto}를 생성합니다.
+     * 작성자 엔티티를 로딩하지 않고 이미 알고 있는 사용자명(예: 로그인 사용자)을 사용할 때 쓰입니다.
+     *
+     * @param comment  응답으로 변환할 {@link Comment} 엔티티
+     * @param username 댓글 작성자의 사용자명
+     */
+    public CommentResponseDto(Comment comment, String username) {
+        this.id = comment.getId();
+        this.content = comment.getContent();
+        this.username = username;
+        this.createdAt = comment.getCreatedAt();
+        this.modifiedAt = comment.getModifiedAt();
+    }
+
+    /**
+     * 조회 쿼리에서 필요한 컬럼만 선택하여 {@link CommentResponseDto}를 생성합니다.
+     * JPQL 생성자 표현식({@code select new ...})에서 사용됩니다.
+     *
+     * @param id         댓글 ID
+     * @param content    댓글 내용
+     * @param username   댓글 작성자의 사용자명
+     * @param createdAt  댓글 생성 시간
+     * @param modifiedAt 댓글 수정 시간
+     */
+    public CommentResponseDto(Long id, String content, String username,
+                              LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.content = content;
+        this.username = username;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.scheduler.dto.schedule;
+
+import com.example.scheduler.dto.BatchItemErrorDto;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 스케줄 일괄 생성 응답 시 사용되는 데이터 전송 객체(DTO)입니다.
+ * 생성된 스케줄과 유효성 검사에 실패하여 생성되지 않은 항목의 오류를 함께 전달합니다.
+ */
+@Getter
+public class ScheduleBatchResponseDto {
+    private List<ScheduleResponseDto> created;
+    private List<BatchItemErrorDto> errors;
+
+    /**
+     * 생성 결과와 실패한 항목의 오류로 {@link ScheduleBatchResponseDto}를 생성합니다.
+     *
+     * @param created 생성된 스케줄 목록 (요청 순서 유지)
+     * @param errors  생성되지 않은 항목의 위치와 오류 메시지 목록
+     */
+    public ScheduleBatchResponseDto(List<ScheduleResponseDto> created, List<BatchItemErrorDto> errors) {
+        this.created = created;
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.scheduler.dto.schedule;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 스케줄 변경 피드 조회 응답 시 사용되는 데이터 전송 객체(DTO)입니다.
+ * 커서 이후 생성/수정된 스케줄과 삭제된 스케줄 ID, 다음 조회에 사용할 커서를 함께 전달합니다.
+ */
+@Getter
+public class ScheduleChangesResponseDto {
+    private List<ScheduleResponseDto> changed;
+    private List<Long> deletedIds;
+    private String nextCursor;
+    private boolean hasMore;
+
+    /**
+     * 변경 내역과 다음 커서를 기반으로 {@link ScheduleChangesResponseDto}를 생성합니다.
+     *
+     * @param changed    생성 또는 수정된 스케줄 목록 (수정일 오름차순)
+     * @param deletedIds 삭제된 스케줄 ID 목록 (삭제일 오름차순)
+     * @param nextCursor 다음 조회에 사용할 커서 (변경이 없어도 항상 전달)
+     * @param hasMore    바로 이어서 조회할 변경이 남아 있는지 여부
+     */
+    public ScheduleChangesResponseDto(List<ScheduleResponseDto> changed, List<Long> deletedIds,
+                                      String nextCursor, boolean hasMore) {
+        this.changed = changed;
+        this.deletedIds = deletedIds;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+}
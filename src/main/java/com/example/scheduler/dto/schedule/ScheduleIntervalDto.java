@@ -0,0 +1,28 @@
+package com.example.scheduler.dto.schedule;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 시간 겹침 검사에 사용하는 일정 ID와 시작/종료 시각을 담는 데이터 전송 객체(DTO)입니다.
+ */
+@Getter
+public class ScheduleIntervalDto {
+    private Long id;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+
+    /**
+     * 일정 ID와 시작/종료 시각으로 {@link ScheduleIntervalDto}를 생성합니다.
+     *
+     * @param id      일정 ID
+     * @param startAt 시작 시각
+     * @param endAt   종료 시각
+     */
+    public ScheduleIntervalDto(Long id, LocalDateTime startAt, LocalDateTime endAt) {
+        this.id = id;
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+}
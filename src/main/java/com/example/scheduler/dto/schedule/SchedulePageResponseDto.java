@@ -34,4 +34,27 @@ public class SchedulePageResponseDto {
         this.createdAt = schedule.getCreatedAt();
         this.modifiedAt = schedule.getModifiedAt();
     }
+
+    /**
+     * 조회 쿼리에서 필요한 컬럼과 댓글 수를 선택하여 {@link SchedulePageResponseDto}를 생성합니다.
+     * JPQL 생성자 표현식({@code select new ...})에서 사용됩니다.
+     *
+     * @param id           스케줄 ID
+     * @param title        스케줄 제목
+     * @param content      스케줄 내용
+     * @param username     스케줄 작성자의 사용자명
+     * @param commentCount 해당 스케줄의 댓글 수
+     * @param createdAt    스케줄 생성 시간
+     * @param modifiedAt   스케줄 수정 시간
+     */
+    public SchedulePageResponseDto(Long id, String title, String content, String username, Long commentCount,
+                                   LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.username = username;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
 }
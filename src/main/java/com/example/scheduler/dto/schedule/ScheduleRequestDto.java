@@ -1,10 +1,13 @@
 package com.example.scheduler.dto.schedule;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * 스케줄 생성 및 수정 요청 시 사용되는 데이터 전송 객체(DTO)입니다.
  * 클라이언트로부터 받은 데이터의 유효성 검증을 포함합니다.
@@ -27,4 +30,29 @@ public class ScheduleRequestDto {
      */
     @NotBlank(message = "내용은 필수 입력값입니다.")
     private String content;
+
+    /**
+     * 일정 시작 시각입니다.
+     * 선택 입력값이며, 입력하는 경우 종료 시각도 함께 입력해야 합니다.
+     */
+    private LocalDateTime startAt;
+
+    /**
+     * 일정 종료 시각입니다 (이 시각은 일정에 포함되지 않음).
+     * 선택 입력값이며, 입력하는 경우 시작 시각보다 늦어야 합니다.
+     */
+    private LocalDateTime endAt;
+
+    /**
+     * 시작/종료 시각이 모두 비어 있거나, 모두 입력되어 있고 종료 시각이 시작 시각보다 늦은지 검사합니다.
+     *
+     * @return 올바른 시간 구간이면 {@code true}
+     */
+    @AssertTrue(message = "시작/종료 시각은 함께 입력해야 하며, 종료 시각은 시작 시각보다 늦어야 합니다.")
+    public boolean isTimeRange() {
+        if (startAt == null || endAt == null) {
+            return startAt == null && endAt == null;
+        }
+        return endAt.isAfter(startAt);
+    }
 }
@@ -14,6 +14,8 @@ public class ScheduleResponseDto {
     private Long id;
     private String title;
     private String content;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
     private String username;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
@@ -27,8 +29,54 @@ public class ScheduleResponseDto {
         this.id = schedule.getId();
         this.title = schedule.getTitle();
         this.content = schedule.getContent();
+        this.startAt = schedule.getStartAt();
+        this.endAt = schedule.getEndAt();
         this.username = schedule.getUsername();
         this.createdAt = schedule.getCreatedAt();
         this.modifiedAt = schedule.getModifiedAt();
     }
+
+    /**
+     * {@link Schedule} 엔티티와 작성자의 사용자명으로 {@link ScheduleResponseDto}를 생성합니다.
+     * 작성자 엔티티를 로딩하지 않고 이미 알고 있는 사용자명(예: 로그인 사용자)을 사용할 때 쓰입니다.
+     *
+     * @param schedule 응답으로 변환할 {@link Schedule} 엔티티
+     * @param username 스케줄 작성자의 사용자명
+     */
+    public ScheduleResponseDto(Schedule schedule, String username) {
+        this.id = schedule.getId();
+        this.title = schedule.getTitle();
+        this.content = schedule.getContent();
+        this.startAt = schedule.getStartAt();
+        this.endAt = schedule.getEndAt();
+        this.username = username;
+        this.createdAt = schedule.getCreatedAt();
+        this.modifiedAt = schedule.getModifiedAt();
+    }
+
+    /**
+     * 조회 쿼리에서 필요한 컬럼만 선택하여 {@link ScheduleResponseDto}를 생성합니다.
+     * JPQL 생성자 표현식({@code select new ...})에서 사용됩니다.
+     *
+     * @param id         스케줄 ID
+     * @param title      스케줄 제목
+     * @param content    스케줄 내용
+     * @param startAt    스케줄 시작 시각
+     * @param endAt      스케줄 종료 시각
+     * @param username   스케줄 작성자의 사용자명
+     * @param createdAt  스케줄 생성 시간
+     * @param modifiedAt 스케줄 수정 시간
+     */
+    public ScheduleResponseDto(Long id, String title, String content,
+                               LocalDateTime startAt, LocalDateTime endAt, String username,
+                               LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.username = username;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
 }
@@ -12,15 +12,19 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_schedule_id_created_at_id", columnList = "schedule_id, created_at, id")
+})
 public class Comment extends Timestamped {
 
     /**
      * 댓글의 고유 식별자 (Primary Key).
-     * 데이터베이스에서 자동으로 생성되는 IDENTITY 전략을 사용합니다.
+     * 여러 건을 저장할 때 INSERT를 JDBC 배치로 묶을 수 있도록 IDENTITY 대신 pooled 시퀀스를 사용합니다.
+     * 한 번에 {@code allocationSize}개의 ID를 미리 할당받으며, 시퀀스가 없는 MySQL에서는 {@code comments_seq} 테이블로 동작합니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -34,8 +38,9 @@ public class Comment extends Timestamped {
      * 댓글을 작성한 사용자입니다.
      * {@link User} 엔티티와 다대일(Many-to-One) 관계를 가집니다.
      * 'user_id' 컬럼을 통해 조인되며, null 값을 허용하지 않습니다.
+     * 지연 로딩되며, 작성자가 필요한 경우 조회 쿼리에서 명시적으로 함께 조회합니다.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -43,8 +48,9 @@ public class Comment extends Timestamped {
      * 댓글이 달린 스케줄입니다.
      * {@link Schedule} 엔티티와 다대일(Many-to-One) 관계를 가집니다.
      * 'schedule_id' 컬럼을 통해 조인되며, null 값을 허용하지 않습니다.
+     * 지연 로딩되며, 댓글 조회 시에는 스케줄을 로딩하지 않고 'schedule_id' 로만 필터링합니다.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "schedule_id", nullable = false)
     private Schedule schedule;
 
@@ -79,4 +85,15 @@ public class Comment extends Timestamped {
     public String getUsername() {
         return this.user.getUsername();
     }
+
+    /**
+     * 주어진 사용자가 이 댓글의 작성자인지 확인합니다.
+     * 작성자 프록시의 ID만 비교하므로 작성자 엔티티를 로딩하지 않습니다.
+     *
+     * @param userId 확인할 사용자의 ID
+     * @return 작성자이면 {@code true}
+     */
+    public boolean isWrittenBy(Long userId) {
+        return this.user.getId().equals(userId);
+    }
 }
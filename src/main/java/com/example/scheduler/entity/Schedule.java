@@ -4,7 +4,11 @@ import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,19 +19,30 @@ import java.util.List;
  * {@link Timestamped}를 상속받아 생성일과 수정일은 자동으로 관리됩니다.
  * 'schedules' 테이블과 매핑됩니다.
  *
+ * 수정/삭제 시 ID로 조회하는 엔티티는 2차 캐시({@code schedule} 영역)에 {@link CacheConcurrencyStrategy#READ_WRITE} 전략으로 보관합니다.
+ * 댓글 수 증감처럼 JPQL 일괄 UPDATE/DELETE를 실행하면 Hibernate가 영역 전체를 비우므로, 댓글 목록 컬렉션은 캐시하지 않습니다.
+ *
+ * 기간 조회는 {@code (start_at, end_at)} 인덱스를, 사용자별 일정 시간 구간 로딩은 {@code (user_id, start_at, end_at)} 인덱스를 사용합니다.
  */
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "schedules")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "schedule")
+@Table(name = "schedules", indexes = {
+        @Index(name = "idx_schedules_modified_at_id", columnList = "modified_at, id"),
+        @Index(name = "idx_schedules_start_at_end_at", columnList = "start_at, end_at"),
+        @Index(name = "idx_schedules_user_id_start_at_end_at", columnList = "user_id, start_at, end_at")
+})
 public class Schedule extends Timestamped {
 
     /**
      * 스케줄의 고유 식별자 (Primary Key).
-     * 데이터베이스에서 자동으로 생성되는 IDENTITY 전략을 사용합니다.
+     * 여러 건을 저장할 때 INSERT를 JDBC 배치로 묶을 수 있도록 IDENTITY 대신 pooled 시퀀스를 사용합니다.
+     * 한 번에 {@code allocationSize}개의 ID를 미리 할당받으며, 시퀀스가 없는 MySQL에서는 {@code schedules_seq} 테이블로 동작합니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedules_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -44,13 +59,37 @@ public class Schedule extends Timestamped {
     @Column(nullable = false)
     private String content;
 
+    /**
+     * 일정 시작 시각입니다.
+     * 시간이 정해지지 않은 일정은 시작/종료 시각이 모두 {@code null}입니다.
+     */
+    @Column(name = "start_at")
+    private LocalDateTime startAt;
+
+    /**
+     * 일정 종료 시각입니다 (이 시각은 일정에 포함되지 않음).
+     * 시작 시각보다 늦어야 하며, 일정 길이는 {@code scheduler.schedule.max-duration}을 넘을 수 없습니다.
+     */
+    @Column(name = "end_at")
+    private LocalDateTime endAt;
+
     /**
      * 스케줄을 작성한 사용자 (필수값)
+     * 지연 로딩되며, 작성자가 필요한 경우 조회 쿼리에서 명시적으로 함께 조회합니다.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * 이 스케줄에 달린 댓글 수입니다.
+     * 목록 조회 시 댓글 테이블을 집계하지 않도록 비정규화한 값이며,
+     * 댓글 생성/삭제 시 같은 트랜잭션 안에서 원자적으로 증가/감소합니다.
+     */
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private Long commentCount = 0L;
+
     /**
      * 이 스케줄에 달린 댓글 목록
      * 스케줄 삭제 시 연관된 댓글도 함께 삭제됩니다.
@@ -66,8 +105,23 @@ public class Schedule extends Timestamped {
      * @param user 작성자 정보 {@link User}
      */
     public Schedule(String title, String content, User user) {
+        this(title, content, null, null, user);
+    }
+
+    /**
+     * 시작/종료 시각을 포함하는 Schedule 엔티티의 생성자입니다.
+     *
+     * @param title 스케줄 제목
+     * @param content 스케줄 내용
+     * @param startAt 시작 시각 (시간이 정해지지 않은 일정은 {@code null})
+     * @param endAt 종료 시각 (시간이 정해지지 않은 일정은 {@code null})
+     * @param user 작성자 정보 {@link User}
+     */
+    public Schedule(String title, String content, LocalDateTime startAt, LocalDateTime endAt, User user) {
         this.title = title;
         this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
         this.user = user;
     }
 
@@ -76,10 +130,14 @@ public class Schedule extends Timestamped {
      *
      * @param title 새로운 제목
      * @param content 새로운 내용
+     * @param startAt 새로운 시작 시각
+     * @param endAt 새로운 종료 시각
      */
-    public void update(String title, String content) {
+    public void update(String title, String content, LocalDateTime startAt, LocalDateTime endAt) {
         this.title = title;
         this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
     }
 
 
@@ -90,4 +148,15 @@ public class Schedule extends Timestamped {
     public String getUsername() {
         return this.user.getUsername();
     }
+
+    /**
+     * 주어진 사용자가 이 스케줄의 작성자인지 확인합니다.
+     * 작성자 프록시의 ID만 비교하므로 작성자 엔티티를 로딩하지 않습니다.
+     *
+     * @param userId 확인할 사용자의 ID
+     * @return 작성자이면 {@code true}
+     */
+    public boolean isWrittenBy(Long userId) {
+        return this.user.getId().equals(userId);
+    }
 }
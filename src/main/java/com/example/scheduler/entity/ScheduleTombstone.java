@@ -0,0 +1,55 @@
+package com.example.scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 스케줄의 기록(tombstone)을 나타내는 JPA 엔티티 클래스입니다.
+ * 'schedule_tombstones' 테이블과 매핑됩니다.
+ *
+ * 변경 피드({@code GET /api/schedules/changes})가 삭제된 스케줄을 클라이언트에 알리기 위해 사용하며,
+ * 보관 기간({@code scheduler.schedule.tombstone-retention})이 지나면 삭제됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "schedule_tombstones", indexes = {
+        @Index(name = "idx_schedule_tombstones_deleted_at_id", columnList = "deleted_at, id")
+})
+public class ScheduleTombstone {
+
+    /**
+     * 기록의 고유 식별자 (Primary Key).
+     * 여러 스케줄을 한 번에 삭제할 때 INSERT를 JDBC 배치로 묶을 수 있도록 pooled 시퀀스를 사용합니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_tombstone_seq")
+    @SequenceGenerator(name = "schedule_tombstone_seq", sequenceName = "schedule_tombstones_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * 삭제된 스케줄의 ID.
+     * 스케줄 행은 삭제되므로 외래 키로 연결하지 않습니다.
+     */
+    @Column(name = "schedule_id", nullable = false)
+    private Long scheduleId;
+
+    /**
+     * 스케줄이 삭제된 시각.
+     */
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    /**
+     * 새로운 삭제 기록을 생성합니다.
+     *
+     * @param scheduleId 삭제된 스케줄의 ID
+     */
+    public ScheduleTombstone(Long scheduleId) {
+        this.scheduleId = scheduleId;
+        this.deletedAt = LocalDateTime.now();
+    }
+}
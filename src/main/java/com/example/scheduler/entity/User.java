@@ -3,17 +3,32 @@ package com.example.scheduler.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import java.time.LocalDateTime;
 
 /**
  * 사용자 정보를 나타내는 JPA 엔티티 클래스입니다.
  * Timestamped를 상속받아 생성 및 수정 시간을 자동으로 관리합니다.
  * 'users' 테이블과 매핑됩니다.
+ *
+ * 거의 모든 요청에서 조회되므로 2차 캐시({@code user} 영역)에 보관하며, 이메일을 자연 키로 사용하여
+ * 이메일 조회도 {@code user-natural-id} 영역에서 처리합니다.
+ * 사용자 정보와 비밀번호는 수정될 수 있으므로, 수정 중인 항목을 잠가 다른 트랜잭션이 이전 값을 읽지 않도록
+ * {@link CacheConcurrencyStrategy#READ_WRITE} 전략을 사용합니다.
  */
 
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_username", columnList = "username")
+})
 public class User extends Timestamped {
 
     /**
@@ -34,8 +49,9 @@ public class User extends Timestamped {
     /**
      * 사용자 이메일 주소.
      * null 값을 허용하지 않으며, 데이터베이스 수준에서 고유해야 합니다.
-     * 로그인 ID 등으로 사용될 수 있습니다.
+     * 로그인 ID로 사용되는 자연 키이며, 회원 정보 수정 시 변경될 수 있습니다.
      */
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -47,6 +63,14 @@ public class User extends Timestamped {
     @Column(nullable = false)
     private String password;
 
+    /**
+     * 탈퇴 처리된 시각.
+     * 탈퇴 요청 즉시 설정되며, 작성한 일정과 댓글은 {@link UserPurgeTask}에 따라 백그라운드에서 삭제된 뒤 사용자 행도 삭제됩니다.
+     * 탈퇴하지 않은 사용자는 {@code null}입니다.
+     */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     /**
      * 새로운 User 엔티티를 생성합니다.
      *
@@ -80,4 +104,20 @@ public class User extends Timestamped {
     public void updatePassword(String encodedPassword) {
         this.password = encodedPassword;
     }
+
+    /**
+     * 사용자를 탈퇴 상태로 표시합니다.
+     */
+    public void markDeleted() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 탈퇴 처리된 사용자인지 확인합니다.
+     *
+     * @return 탈퇴 처리되었으면 {@code true}
+     */
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
 }
@@ -0,0 +1,79 @@
+package com.example.scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴한 사용자의 일정과 댓글을 백그라운드에서 삭제하는 작업을 나타내는 JPA 엔티티 클래스입니다.
+ * 'user_purge_tasks' 테이블과 매핑됩니다.
+ *
+ * 작업 상태와 진행량을 데이터베이스에 저장하므로 애플리케이션이 재시작되어도 남은 작업을 이어서 처리합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "user_purge_tasks", indexes = {
+        @Index(name = "idx_user_purge_tasks_completed_at", columnList = "completed_at")
+})
+public class UserPurgeTask extends Timestamped {
+
+    /**
+     * 작업의 고유 식별자 (Primary Key).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 삭제 대상 사용자의 ID.
+     * 작업이 끝나면 사용자 행이 삭제되므로 외래 키로 연결하지 않습니다.
+     */
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    /**
+     * 지금까지 삭제한 댓글 수 (사용자가 다른 일정에 작성한 댓글 포함).
+     */
+    @Column(name = "deleted_comments", nullable = false)
+    private long deletedComments;
+
+    /**
+     * 지금까지 삭제한 일정 수.
+     */
+    @Column(name = "deleted_schedules", nullable = false)
+    private long deletedSchedules;
+
+    /**
+     * 작업이 완료된 시각. 진행 중인 작업은 {@code null}입니다.
+     */
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 새로운 삭제 작업을 생성합니다.
+     *
+     * @param userId 삭제 대상 사용자의 ID
+     */
+    public UserPurgeTask(Long userId) {
+        this.userId = userId;
+    }
+
+    public void addDeletedComments(long count) {
+        this.deletedComments += count;
+    }
+
+    public void addDeletedSchedules(long count) {
+        this.deletedSchedules += count;
+    }
+
+    public void complete() {
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return this.completedAt != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.scheduler.event;
+
+import lombok.Getter;
+
+/**
+ * 스케줄 또는 스케줄에 달린 댓글이 변경되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 캐시 무효화 등 후속 처리에 사용됩니다.
+ */
+@Getter
+public class ScheduleChangedEvent {
+    private final Long scheduleId;
+
+    /**
+     * 변경된 스케줄의 ID로 {@link ScheduleChangedEvent}를 생성합니다.
+     *
+     * @param scheduleId 변경된 스케줄의 ID
+     */
+    public ScheduleChangedEvent(Long scheduleId) {
+        this.scheduleId = scheduleId;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.scheduler.event;
+
+import lombok.Getter;
+
+/**
+ * 스케줄이 삭제되었음을 알리는 이벤트입니다.
+ * 검색 색인과 일정 시간 겹침 검사 색인에서 스케줄을 제거하는 데 사용됩니다.
+ */
+@Getter
+public class ScheduleDeletedEvent {
+    private final Long scheduleId;
+    private final Long userId;
+
+    /**
+     * 삭제된 스케줄의 ID와 작성자 ID로 {@link ScheduleDeletedEvent}를 생성합니다.
+     *
+     * @param scheduleId 삭제된 스케줄의 ID
+     * @param userId     삭제된 스케줄의 작성자 ID
+     */
+    public ScheduleDeletedEvent(Long scheduleId, Long userId) {
+        this.scheduleId = scheduleId;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.scheduler.event;
+
+import lombok.Getter;
+
+/**
+ * 스케줄이 생성되거나 제목/내용이 수정되었음을 알리는 이벤트입니다.
+ * 검색 색인을 갱신하는 데 사용됩니다.
+ */
+@Getter
+public class ScheduleSavedEvent {
+    private final Long scheduleId;
+    private final String title;
+    private final String content;
+
+    /**
+     * 저장된 스케줄의 ID와 제목, 내용으로 {@link ScheduleSavedEvent}를 생성합니다.
+     *
+     * @param scheduleId 저장된 스케줄의 ID
+     * @param title      저장된 제목
+     * @param content    저장된 내용
+     */
+    public ScheduleSavedEvent(Long scheduleId, String title, String content) {
+        this.scheduleId = scheduleId;
+        this.title = title;
+        this.content = content;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.scheduler.event;
+
+import lombok.Getter;
+
+/**
+ * 사용자 정보가 변경되거나 삭제되었음을 알리는 이벤트입니다.
+ * 사용자명이 포함된 응답 캐시를 무효화하는 데 사용됩니다.
+ */
+@Getter
+public class UserChangedEvent {
+    private final Long userId;
+
+    /**
+     * 변경된 사용자의 ID로 {@link UserChangedEvent}를 생성합니다.
+     *
+     * @param userId 변경된 사용자의 ID
+     */
+    public UserChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+}
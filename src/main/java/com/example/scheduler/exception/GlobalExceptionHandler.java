@@ -1,7 +1,9 @@
 package com.example.scheduler.exception;
 
+import org.springframework.dao.TransientDataAccessResourceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -40,6 +43,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    // 비밀번호 해시 작업 대기열 또는 DB 커넥션 풀 포화 시 즉시 실패
+    @ExceptionHandler({
+            RejectedExecutionException.class,
+            CannotCreateTransactionException.class,
+            TransientDataAccessResourceException.class
+    })
+    public ResponseEntity<Map<String, String>> handleOverloadException(
+            Exception ex) {
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     // 기타 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleAllExceptions(
@@ -1,5 +1,9 @@
 package com.example.scheduler.filter;
 
+import com.example.scheduler.auth.AuthMode;
+import com.example.scheduler.auth.AuthTokenProvider;
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.service.UserService;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -8,7 +12,22 @@ import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 
 public class AuthFilter implements Filter {
-    
+
+    // 인증된 사용자 정보({@link AuthUser})를 저장하는 요청 속성 이름
+    public static final String AUTH_USER_ATTRIBUTE = AuthFilter.class.getName() + ".AUTH_USER";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthMode authMode;
+    private final AuthTokenProvider tokenProvider;
+    private final UserService userService;
+
+    public AuthFilter(AuthMode authMode, AuthTokenProvider tokenProvider, UserService userService) {
+        this.authMode = authMode;
+        this.tokenProvider = tokenProvider;
+        this.userService = userService;
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
     throws IOException, ServletException {
@@ -23,15 +42,33 @@ public class AuthFilter implements Filter {
             return;
         }
         
-        // 세션에서 인증 정보 확인
-        HttpSession session = httpRequest.getSession(false);
-        if (session == null || session.getAttribute("userId") == null) {
+        // 세션 또는 토큰에서 사용자 ID 확인
+        Long userId = (authMode == AuthMode.TOKEN)
+                ? authenticateWithToken(httpRequest)
+                : authenticateWithSession(httpRequest);
+        // 현재 사용자 정보 조회 (탈퇴한 사용자의 세션/토큰은 만료 전이라도 거부)
+        AuthUser authUser = (userId != null) ? userService.findActiveAuthUser(userId).orElse(null) : null;
+        if (authUser == null) {
             httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             httpResponse.getWriter().write("인증이 필요합니다.");
             return;
         }
         
-        // 인증된 사용자는 요청 계속 진행
+        // 인증된 사용자는 요청 속성에 사용자 정보를 저장하고 요청 계속 진행
+        httpRequest.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
         chain.doFilter(request, response);
     }
+
+    private Long authenticateWithSession(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return (session != null) ? (Long) session.getAttribute("userId") : null;
+    }
+
+    private Long authenticateWithToken(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return tokenProvider.verify(authorization.substring(BEARER_PREFIX.length()));
+    }
 }
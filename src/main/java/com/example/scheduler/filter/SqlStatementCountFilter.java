@@ -0,0 +1,51 @@
+package com.example.scheduler.filter;
+
+import com.example.scheduler.monitoring.SqlStatementCounter;
+import com.example.scheduler.monitoring.SqlStatementMetrics;
+import com.example.scheduler.monitoring.SqlStatementStats;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 SQL 문 집계 구간({@link SqlStatementCounter})을 열고, 요청이 끝나면 엔드포인트별 지표로 기록합니다.
+ * 한 요청에서 실행된 SQL 문 수가 경고 기준을 넘으면 N+1 조회를 의심할 수 있도록 로그를 남깁니다.
+ */
+@Slf4j
+public class SqlStatementCountFilter implements Filter {
+
+    private final SqlStatementMetrics metrics;
+    private final int warnThreshold;
+
+    public SqlStatementCountFilter(SqlStatementMetrics metrics, int warnThreshold) {
+        this.metrics = metrics;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+    throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+
+        SqlStatementCounter.start();
+        SqlStatementStats stats;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            stats = SqlStatementCounter.stop();
+        }
+
+        // 매핑된 URL 패턴 기준으로 집계 (경로 변수 값마다 따로 집계되지 않도록)
+        Object pattern = httpRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = (pattern != null) ? pattern.toString() : "UNKNOWN";
+        metrics.record(httpRequest.getMethod(), uri, stats);
+
+        if (stats.getCount() > warnThreshold) {
+            log.warn("{} {} 요청에서 SQL {}건이 실행되었습니다 (기준 {}건).",
+                    httpRequest.getMethod(), uri, stats.getCount(), warnThreshold);
+        }
+    }
+}
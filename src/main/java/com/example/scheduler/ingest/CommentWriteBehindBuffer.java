@@ -0,0 +1,298 @@
+package com.example.scheduler.ingest;
+
+import com.example.scheduler.entity.Comment;
+import com.example.scheduler.entity.Schedule;
+import com.example.scheduler.event.ScheduleChangedEvent;
+import com.example.scheduler.repository.CommentRepository;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 댓글 생성을 메모리 대기열에 모았다가 한 트랜잭션으로 묶어 저장하는 쓰기 지연(write-behind) 버퍼입니다.
+ *
+ * 대기열의 첫 댓글이 들어온 뒤 {@code scheduler.comment.write-behind.flush-interval}이 지나거나
+ * {@code batch-size}개가 모이면 저장합니다. 댓글 INSERT는 JDBC 배치(MySQL 에서는 다중 행 INSERT)로 전송되고,
+ * 일정의 댓글 수는 일정마다 한 번의 UPDATE로 증가시키므로 같은 일정에 댓글이 몰려도 행 잠금 경합이 줄어듭니다.
+ *
+ * 대기열이 가득 차면 {@link #offer}가 {@code false}를 반환하며, 호출하는 쪽은 즉시 저장하는 방식으로 처리합니다.
+ * 대기열의 댓글은 메모리에만 있으므로 저장되기 전까지 조회되지 않고, 애플리케이션이 비정상 종료되면 유실됩니다.
+ * 저장 시점에 일정이 삭제되었거나 저장에 실패한 댓글도 버려집니다({@code scheduler.comment.write-behind.dropped}).
+ * 정상 종료 시에는 새 댓글을 더 받지 않고, 대기열에 들어간 댓글을 모두 저장한 뒤 종료합니다.
+ */
+@Slf4j
+@Component
+public class CommentWriteBehindBuffer {
+
+    /**
+     * 저장을 기다리는 댓글입니다.
+     *
+     * @param scheduleId 댓글을 추가할 일정 ID
+     * @param userId     작성자 ID
+     * @param content    댓글 내용
+     */
+    public record PendingComment(Long scheduleId, Long userId, String content) {
+    }
+
+    private final CommentRepository commentRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final BlockingQueue<PendingComment> queue;
+    private final Thread flusher;
+    private volatile boolean running;
+    // 대기열에 넣는 중(읽기 잠금)에는 종료 상태로 바뀌지 않도록 하여, 받은 댓글이 종료 후 대기열에 남지 않게 함
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+    // 대기열에 있거나 저장 중인 댓글 수
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    public CommentWriteBehindBuffer(CommentRepository commentRepository,
+                                    ScheduleRepository scheduleRepository,
+                                    UserRepository userRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${scheduler.comment.write-behind.enabled:false}") boolean enabled,
+                                    @Value("${scheduler.comment.write-behind.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${scheduler.comment.write-behind.batch-size:500}") int batchSize,
+                                    @Value("${scheduler.comment.write-behind.flush-interval:20ms}") Duration flushInterval,
+                                    MeterRegistry meterRegistry) {
+        this.commentRepository = commentRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.acceptedCounter = Counter.builder("scheduler.comment.write-behind.accepted")
+                .description("대기열에 들어간 댓글 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("scheduler.comment.write-behind.rejected")
+                .description("대기열이 가득 차 즉시 저장으로 처리된 댓글 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("scheduler.comment.write-behind.dropped")
+                .description("일정이 삭제되었거나 저장에 실패하여 버려진 댓글 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("scheduler.comment.write-behind.flush")
+                .description("대기열의 댓글을 한 트랜잭션으로 저장하는 시간")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("scheduler.comment.write-behind.batch.size")
+                .description("한 번에 저장한 댓글 수")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.comment.write-behind.queue.depth", queue, BlockingQueue::size)
+                .description("저장을 기다리는 댓글 수")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::run, "comment-write-behind");
+        this.flusher.setDaemon(true);
+        if (enabled) {
+            this.running = true;
+            this.flusher.start();
+            log.info("댓글 쓰기 지연 저장 사용: 대기열 크기={}, 배치 크기={}, 저장 간격={}ms",
+                    queueCapacity, batchSize, flushInterval.toMillis());
+        }
+    }
+
+    /**
+     * 쓰기 지연 저장을 사용하는지 확인합니다.
+     *
+     * @return {@code scheduler.comment.write-behind.enabled=true}이면 {@code true}
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 댓글을 대기열에 넣습니다. 대기열이 가득 찼거나 종료 중이면 기다리지 않고 바로 거절합니다.
+     *
+     * @param comment 저장할 댓글
+     * @return 대기열에 들어갔으면 {@code true}, 호출하는 쪽에서 즉시 저장해야 하면 {@code false}
+     */
+    public boolean offer(PendingComment comment) {
+        stateLock.readLock().lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            pending.incrementAndGet();
+            if (!queue.offer(comment)) {
+                pending.decrementAndGet();
+                rejectedCounter.increment();
+                return false;
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        acceptedCounter.increment();
+        return true;
+    }
+
+    /**
+     * 지금까지 대기열에 들어간 댓글의 저장이 모두 끝날 때까지 기다립니다.
+     *
+     * @param timeout 최대 대기 시간
+     * @return 제한 시간 안에 대기열이 비고 저장 중인 댓글이 없으면 {@code true}
+     */
+    public boolean awaitFlushed(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        // 새 댓글은 즉시 저장으로 돌림, 잠금 이후에는 대기열에 새 댓글이 들어오지 않음
+        stateLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+        if (flusher.isAlive()) {
+            log.warn("댓글 쓰기 지연 저장 스레드가 종료되지 않아 남은 댓글을 함께 저장합니다.");
+        }
+
+        // 저장 스레드가 중단되었거나 시간 안에 끝내지 못한 댓글은 현재 스레드에서 저장
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                flush(batch);
+            } finally {
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void run() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 댓글 이후 저장 간격 동안 또는 배치 크기만큼 모음
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("댓글 쓰기 지연 저장 스레드가 중단되었습니다. 남은 댓글 {}건", queue.size() + batch.size());
+                return;
+            } catch (RuntimeException e) {
+                log.error("댓글 {}건 저장 중 오류가 발생했습니다.", batch.size(), e);
+            } finally {
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    // 한 트랜잭션으로 저장하고, 실패하면 문제가 된 댓글만 버리도록 한 건씩 다시 저장
+    private void flush(List<PendingComment> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            Integer dropped = transactionTemplate.execute(status -> insert(batch));
+            droppedCounter.increment(dropped != null ? dropped : 0);
+        } catch (RuntimeException e) {
+            log.warn("댓글 {}건 일괄 저장에 실패하여 한 건씩 다시 저장합니다.", batch.size(), e);
+            for (PendingComment comment : batch) {
+                try {
+                    Integer dropped = transactionTemplate.execute(status -> insert(List.of(comment)));
+                    droppedCounter.increment(dropped != null ? dropped : 0);
+                } catch (RuntimeException ex) {
+                    droppedCounter.increment();
+                    log.error("댓글을 저장하지 못했습니다: 일정 {}, 작성자 {}", comment.scheduleId(), comment.userId(), ex);
+                }
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+    }
+
+    // 일정별 댓글 수를 한 번에 증가시키고 댓글을 저장, 그 사이 삭제된 일정의 댓글 수를 반환
+    private int insert(List<PendingComment> batch) {
+        // 다른 트랜잭션과 같은 순서로 일정 행을 잠그도록 ID 순으로 처리
+        Map<Long, List<PendingComment>> commentsBySchedule = new TreeMap<>();
+        for (PendingComment comment : batch) {
+            commentsBySchedule.computeIfAbsent(comment.scheduleId(), id -> new ArrayList<>()).add(comment);
+        }
+
+        int dropped = 0;
+        List<Comment> comments = new ArrayList<>(batch.size());
+        for (Map.Entry<Long, List<PendingComment>> entry : commentsBySchedule.entrySet()) {
+            Long scheduleId = entry.getKey();
+            List<PendingComment> scheduleComments = entry.getValue();
+            if (scheduleRepository.increaseCommentCount(scheduleId, (long) scheduleComments.size()) == 0) {
+                log.warn("일정 {}이(가) 삭제되어 대기 중이던 댓글 {}건을 버립니다.", scheduleId, scheduleComments.size());
+                dropped += scheduleComments.size();
+                continue;
+            }
+            Schedule schedule = scheduleRepository.getReferenceById(scheduleId);
+            for (PendingComment comment : scheduleComments) {
+                comments.add(new Comment(comment.content(), userRepository.getReferenceById(comment.userId()), schedule));
+            }
+            eventPublisher.publishEvent(new ScheduleChangedEvent(scheduleId));
+        }
+        commentRepository.saveAll(comments);
+        return dropped;
+    }
+}
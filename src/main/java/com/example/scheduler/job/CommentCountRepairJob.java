@@ -0,0 +1,82 @@
+package com.example.scheduler.job;
+
+import com.example.scheduler.repository.ScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 스케줄의 비정규화된 댓글 수(comment_count)를 실제 댓글 수와 맞추는 보정 작업입니다.
+ *
+ * 스케줄 ID 순으로 청크 단위로 나누어 처리하며, 청크마다 짧은 트랜잭션으로 커밋하므로
+ * 테이블 전체에 오래 락을 잡지 않습니다. 실행 주기는 {@code scheduler.comment-count.repair-cron}으로 설정합니다.
+ * 기존 데이터베이스에 comment_count 컬럼이 추가되면 모든 값이 0이므로, 애플리케이션 시작 시에도 한 번 실행합니다
+ * ({@code scheduler.comment-count.repair-on-startup}, 값이 이미 맞으면 갱신하지 않음).
+ */
+@Slf4j
+@Component
+public class CommentCountRepairJob {
+
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean repairOnStartup;
+
+    public CommentCountRepairJob(ScheduleRepository scheduleRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${scheduler.comment-count.repair-chunk-size:1000}") int chunkSize,
+                                 @Value("${scheduler.comment-count.repair-on-startup:true}") boolean repairOnStartup) {
+        this.scheduleRepository = scheduleRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.repairOnStartup = repairOnStartup;
+    }
+
+    /**
+     * 애플리케이션 시작 시 댓글 수를 한 번 보정합니다.
+     * 기존 데이터베이스에 추가된 comment_count 컬럼이 첫 정기 실행까지 0으로 조회되지 않도록 합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        if (repairOnStartup) {
+            repair();
+        }
+    }
+
+    /**
+     * 전체 스케줄의 댓글 수를 청크 단위로 다시 계산합니다.
+     *
+     * @return 보정된 스케줄 수
+     */
+    @Scheduled(cron = "${scheduler.comment-count.repair-cron:0 0 4 * * *}")
+    public int repair() {
+        long lastId = 0L;
+        int repaired = 0;
+
+        while (true) {
+            List<Long> ids = scheduleRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Long fromId = ids.get(0);
+            Long toId = ids.get(ids.size() - 1);
+            Integer updated = transactionTemplate.execute(
+                    status -> scheduleRepository.repairCommentCounts(fromId, toId));
+            repaired += (updated != null) ? updated : 0;
+            lastId = toId;
+        }
+
+        if (repaired > 0) {
+            log.warn("댓글 수 보정 완료: {}건의 일정 댓글 수가 실제와 달라 다시 계산했습니다.", repaired);
+        }
+        return repaired;
+    }
+}
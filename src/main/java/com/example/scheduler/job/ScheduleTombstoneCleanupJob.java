@@ -0,0 +1,44 @@
+package com.example.scheduler.job;
+
+import com.example.scheduler.repository.ScheduleTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간({@code scheduler.schedule.tombstone-retention})이 지난 스케줄 삭제 기록을 정리하는 작업입니다.
+ * 보관 기간보다 오래된 커서로 변경 피드를 조회하는 클라이언트는 전체 동기화를 다시 진행해야 합니다.
+ */
+@Slf4j
+@Component
+public class ScheduleTombstoneCleanupJob {
+
+    private final ScheduleTombstoneRepository tombstoneRepository;
+    private final Duration retention;
+
+    public ScheduleTombstoneCleanupJob(ScheduleTombstoneRepository tombstoneRepository,
+                                       @Value("${scheduler.schedule.tombstone-retention:30d}") Duration retention) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.retention = retention;
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록을 삭제합니다.
+     *
+     * @return 삭제된 기록 수
+     */
+    @Transactional
+    @Scheduled(cron = "${scheduler.schedule.tombstone-cleanup-cron:0 30 4 * * *}")
+    public int cleanup() {
+        int deleted = tombstoneRepository.deleteAllByDeletedAtBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 일정 삭제 기록 {}건을 삭제했습니다.", deleted);
+        }
+        return deleted;
+    }
+}
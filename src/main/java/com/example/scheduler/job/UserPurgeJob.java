@@ -0,0 +1,161 @@
+package com.example.scheduler.job;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.dto.comment.CommentCountDto;
+import com.example.scheduler.entity.UserPurgeTask;
+import com.example.scheduler.event.ScheduleChangedEvent;
+import com.example.scheduler.event.UserChangedEvent;
+import com.example.scheduler.repository.CommentRepository;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.UserPurgeTaskRepository;
+import com.example.scheduler.repository.UserRepository;
+import com.example.scheduler.service.ScheduleService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 탈퇴한 사용자의 댓글과 일정을 삭제한 뒤 사용자 행을 삭제하는 백그라운드 작업입니다.
+ *
+ * 처리할 작업은 {@link UserPurgeTask}로 데이터베이스에 저장되어 있으므로, 애플리케이션이 재시작되어도
+ * 다음 실행에서 남은 데이터부터 이어서 삭제합니다. 모든 삭제는 청크 단위의 짧은 트랜잭션으로 커밋되며,
+ * 실행 간격은 {@code scheduler.user-purge.interval}로 설정합니다.
+ */
+@Slf4j
+@Component
+public class UserPurgeJob {
+
+    private final UserPurgeTaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final ScheduleService scheduleService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int commentChunkSize;
+    private final int scheduleChunkSize;
+
+    public UserPurgeJob(UserPurgeTaskRepository taskRepository,
+                        UserRepository userRepository,
+                        ScheduleRepository scheduleRepository,
+                        CommentRepository commentRepository,
+                        ScheduleService scheduleService,
+                        ApplicationEventPublisher eventPublisher,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${scheduler.user-purge.comment-chunk-size:1000}") int commentChunkSize,
+                        @Value("${scheduler.user-purge.schedule-chunk-size:100}") int scheduleChunkSize,
+                        @Value("${scheduler.schedule.batch-max-size:100}") int batchMaxSize) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.scheduleService = scheduleService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.commentChunkSize = commentChunkSize;
+        // 일정 삭제 경로는 한 번에 batch-max-size 개까지만 받으므로 청크 크기를 그 이하로 제한
+        this.scheduleChunkSize = Math.min(scheduleChunkSize, batchMaxSize);
+    }
+
+    /**
+     * 완료되지 않은 모든 삭제 작업을 처리합니다.
+     *
+     * @return 이번 실행에서 완료된 작업 수
+     */
+    @Scheduled(fixedDelayString = "${scheduler.user-purge.interval:10s}")
+    public int purgePending() {
+        int completed = 0;
+        for (Long taskId : taskRepository.findPendingIds()) {
+            try {
+                if (purge(taskId)) {
+                    completed++;
+                }
+            } catch (RuntimeException e) {
+                // 실패한 작업은 다음 실행에서 남은 부분부터 다시 시도
+                log.warn("사용자 삭제 작업 {} 처리 중 오류가 발생했습니다. 다음 실행에서 다시 시도합니다.", taskId, e);
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * 하나의 삭제 작업을 처리합니다.
+     * 사용자가 작성한 댓글, 일정(과 그 일정의 댓글), 사용자 행 순서로 삭제합니다.
+     *
+     * @param taskId 처리할 작업 ID
+     * @return 작업이 완료되었으면 {@code true}, 처리 도중 새 데이터가 생겨 다음 실행으로 미뤘으면 {@code false}
+     */
+    public boolean purge(Long taskId) {
+        UserPurgeTask task = taskRepository.findById(taskId).orElse(null);
+        if (task == null || task.isCompleted()) {
+            return false;
+        }
+        Long userId = task.getUserId();
+
+        // 1. 다른 일정에 작성한 댓글 삭제
+        int deleted;
+        do {
+            deleted = deleteCommentChunk(taskId, userId);
+        } while (deleted == commentChunkSize);
+
+        // 2. 작성한 일정과 그 일정의 댓글 삭제 (일정 삭제 경로를 그대로 사용)
+        AuthUser owner = new AuthUser(userId, null);
+        List<Long> scheduleIds;
+        do {
+            scheduleIds = scheduleRepository.findIdsByUserId(userId, PageRequest.of(0, scheduleChunkSize));
+            if (!scheduleIds.isEmpty()) {
+                int deletedSchedules = scheduleService.deleteSchedules(scheduleIds, owner);
+                transactionTemplate.executeWithoutResult(status -> taskRepository.findForUpdateById(taskId)
+                        .ifPresent(lockedTask -> lockedTask.addDeletedSchedules(deletedSchedules)));
+            }
+        } while (scheduleIds.size() == scheduleChunkSize);
+
+        // 3. 남은 데이터가 없으면 사용자 행 삭제 후 작업 완료
+        Boolean completed = transactionTemplate.execute(status -> {
+            UserPurgeTask lockedTask = taskRepository.findForUpdateById(taskId).orElse(null);
+            if (lockedTask == null || lockedTask.isCompleted()) {
+                return false;
+            }
+            if (commentRepository.existsByUserId(userId) || scheduleRepository.existsByUserId(userId)) {
+                return false;
+            }
+            userRepository.deleteAllByIdInBatch(List.of(userId));
+            lockedTask.complete();
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
+            log.info("사용자 {} 삭제 완료: 댓글 {}개, 일정 {}개", userId,
+                    lockedTask.getDeletedComments(), lockedTask.getDeletedSchedules());
+            return true;
+        });
+        return Boolean.TRUE.equals(completed);
+    }
+
+    // 댓글 한 청크를 삭제하고 해당 일정들의 댓글 수와 작업 진행량을 같은 트랜잭션에서 갱신
+    private int deleteCommentChunk(Long taskId, Long userId) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            UserPurgeTask lockedTask = taskRepository.findForUpdateById(taskId).orElse(null);
+            if (lockedTask == null || lockedTask.isCompleted()) {
+                return 0;
+            }
+
+            List<Long> commentIds = commentRepository.findIdsByUserId(userId, PageRequest.of(0, commentChunkSize));
+            if (commentIds.isEmpty()) {
+                return 0;
+            }
+
+            for (CommentCountDto commentCount : commentRepository.countByScheduleForIds(commentIds)) {
+                scheduleRepository.decreaseCommentCount(commentCount.getScheduleId(), commentCount.getCount());
+                eventPublisher.publishEvent(new ScheduleChangedEvent(commentCount.getScheduleId()));
+            }
+            commentRepository.deleteAllByIdInBatch(commentIds);
+            lockedTask.addDeletedComments(commentIds.size());
+            return commentIds.size();
+        });
+        return (deleted != null) ? deleted : 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.scheduler.json;
+
+import com.example.scheduler.dto.comment.CommentResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * {@link CommentResponseDto} 직렬화기입니다.
+ */
+class CommentResponseSerializer extends ResponseDtoSerializer<CommentResponseDto> {
+
+    CommentResponseSerializer() {
+        super(CommentResponseDto.class);
+    }
+
+    @Override
+    public void serialize(CommentResponseDto value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        writeNumberField(gen, ID, value.getId());
+        writeStringField(gen, CONTENT, value.getContent());
+        writeStringField(gen, USERNAME, value.getUsername());
+        writeDateTimeField(gen, CREATED_AT, value.getCreatedAt(), provider);
+        writeDateTimeField(gen, MODIFIED_AT, value.getModifiedAt(), provider);
+        gen.writeEndObject();
+    }
+}
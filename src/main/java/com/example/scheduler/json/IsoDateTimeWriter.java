@@ -0,0 +1,66 @@
+package com.example.scheduler.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * {@link LocalDateTime}을 Jackson 기본 직렬화({@link DateTimeFormatter#ISO_LOCAL_DATE_TIME})와 같은 문자열로 씁니다.
+ *
+ * {@link DateTimeFormatter}를 거치지 않고 날짜/시간 필드를 문자 배열에 직접 채운 뒤 생성기의 버퍼로 복사하므로
+ * 호출마다 포매터 내부 객체나 중간 문자열이 만들어지지 않습니다.
+ * 예: {@code 2025-05-01T09:30:00}, {@code 2025-05-01T09:30:00.123456} (소수점 이하 끝자리 0은 생략)
+ */
+final class IsoDateTimeWriter {
+
+    // yyyy-MM-ddTHH:mm:ss.SSSSSSSSS
+    private static final int MAX_LENGTH = 29;
+    private static final int FRACTION_START = 20;
+
+    private IsoDateTimeWriter() {
+    }
+
+    static void write(JsonGenerator gen, LocalDateTime value) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // 부호가 붙는 연도는 드물므로 기본 포매터 사용
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+
+        char[] buffer = new char[MAX_LENGTH];
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, value.getSecond(), 2);
+
+        int length = FRACTION_START - 1;
+        int nano = value.getNano();
+        if (nano > 0) {
+            buffer[length] = '.';
+            writeDigits(buffer, FRACTION_START, nano, 9);
+            length = MAX_LENGTH;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    // value 를 앞을 0으로 채운 width 자리 숫자로 씀
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
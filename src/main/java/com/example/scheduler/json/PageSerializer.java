@@ -0,0 +1,130 @@
+package com.example.scheduler.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+
+/**
+ * Spring Data {@link Page} 직렬화기입니다.
+ *
+ * 기본 빈 직렬화기가 {@code PageImpl}의 getter를 리플렉션으로 찾아 쓰던 것과 같은 필드
+ * ({@code content}, {@code pageable}, {@code totalElements}, {@code totalPages} 등)를 같은 형식으로 씁니다.
+ * 페이지 항목은 항목 타입에 등록된 직렬화기로 쓰며, 같은 타입이 이어지면 직렬화기를 다시 찾지 않습니다.
+ */
+class PageSerializer extends StdSerializer<Page<?>> {
+
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString PAGEABLE = new SerializedString("pageable");
+    private static final SerializableString PAGE_NUMBER = new SerializedString("pageNumber");
+    private static final SerializableString PAGE_SIZE = new SerializedString("pageSize");
+    private static final SerializableString SORT = new SerializedString("sort");
+    private static final SerializableString OFFSET = new SerializedString("offset");
+    private static final SerializableString PAGED = new SerializedString("paged");
+    private static final SerializableString UNPAGED = new SerializedString("unpaged");
+    private static final SerializableString LAST = new SerializedString("last");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString FIRST = new SerializedString("first");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString NUMBER = new SerializedString("number");
+    private static final SerializableString NUMBER_OF_ELEMENTS = new SerializedString("numberOfElements");
+    private static final SerializableString EMPTY = new SerializedString("empty");
+    private static final SerializableString SORTED = new SerializedString("sorted");
+    private static final SerializableString UNSORTED = new SerializedString("unsorted");
+    // 페이징 정보가 없는 경우 Spring Data 와 같이 문자열로 씀
+    private static final String UNPAGED_INSTANCE = "INSTANCE";
+
+    PageSerializer() {
+        super(Page.class, false);
+    }
+
+    @Override
+    public void serialize(Page<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(page);
+
+        gen.writeFieldName(CONTENT);
+        writeContent(page, gen, provider);
+
+        gen.writeFieldName(PAGEABLE);
+        writePageable(page.getPageable(), gen);
+
+        gen.writeFieldName(LAST);
+        gen.writeBoolean(page.isLast());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(page.getTotalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(page.getTotalPages());
+        gen.writeFieldName(FIRST);
+        gen.writeBoolean(page.isFirst());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.getSize());
+        gen.writeFieldName(NUMBER);
+        gen.writeNumber(page.getNumber());
+        gen.writeFieldName(SORT);
+        writeSort(page.getSort(), gen);
+        gen.writeFieldName(NUMBER_OF_ELEMENTS);
+        gen.writeNumber(page.getNumberOfElements());
+        gen.writeFieldName(EMPTY);
+        gen.writeBoolean(page.isEmpty());
+
+        gen.writeEndObject();
+    }
+
+    private static void writeContent(Page<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray(page, page.getNumberOfElements());
+        Class<?> elementType = null;
+        JsonSerializer<Object> elementSerializer = null;
+        for (Object element : page.getContent()) {
+            if (element == null) {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            if (element.getClass() != elementType) {
+                elementType = element.getClass();
+                elementSerializer = provider.findValueSerializer(elementType);
+            }
+            elementSerializer.serialize(element, gen, provider);
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writePageable(Pageable pageable, JsonGenerator gen) throws IOException {
+        if (pageable.isUnpaged()) {
+            gen.writeString(UNPAGED_INSTANCE);
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeFieldName(PAGE_NUMBER);
+        gen.writeNumber(pageable.getPageNumber());
+        gen.writeFieldName(PAGE_SIZE);
+        gen.writeNumber(pageable.getPageSize());
+        gen.writeFieldName(SORT);
+        writeSort(pageable.getSort(), gen);
+        gen.writeFieldName(OFFSET);
+        gen.writeNumber(pageable.getOffset());
+        gen.writeFieldName(PAGED);
+        gen.writeBoolean(true);
+        gen.writeFieldName(UNPAGED);
+        gen.writeBoolean(false);
+        gen.writeEndObject();
+    }
+
+    private static void writeSort(Sort sort, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(EMPTY);
+        gen.writeBoolean(sort.isEmpty());
+        gen.writeFieldName(SORTED);
+        gen.writeBoolean(sort.isSorted());
+        gen.writeFieldName(UNSORTED);
+        gen.writeBoolean(sort.isUnsorted());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.scheduler.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 응답 DTO 전용 직렬화기의 공통 부모 클래스입니다.
+ *
+ * 필드 이름은 UTF-8/이스케이프 결과를 미리 계산해 둔 {@link SerializedString} 상수로 쓰고,
+ * 값은 getter를 직접 호출하여 쓰므로 리플렉션 기반 빈 직렬화기를 거치지 않습니다.
+ * {@code null} 값은 기본 직렬화와 같이 {@code null}로 씁니다.
+ * 날짜는 {@link SerializationFeature#WRITE_DATES_AS_TIMESTAMPS}가 꺼져 있으면(Spring Boot 기본값) ISO 문자열로 직접 쓰고,
+ * 켜져 있으면 등록된 기본 직렬화기에 맡겨 같은 배열 형식으로 씁니다.
+ *
+ * @param <T> 직렬화할 DTO 타입
+ */
+abstract class ResponseDtoSerializer<T> extends StdSerializer<T> {
+
+    static final SerializableString ID = new SerializedString("id");
+    static final SerializableString TITLE = new SerializedString("title");
+    static final SerializableString CONTENT = new SerializedString("content");
+    static final SerializableString START_AT = new SerializedString("startAt");
+    static final SerializableString END_AT = new SerializedString("endAt");
+    static final SerializableString USERNAME = new SerializedString("username");
+    static final SerializableString COMMENT_COUNT = new SerializedString("commentCount");
+    static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    static final SerializableString MODIFIED_AT = new SerializedString("modifiedAt");
+
+    protected ResponseDtoSerializer(Class<T> type) {
+        super(type);
+    }
+
+    static void writeNumberField(JsonGenerator gen, SerializableString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    static void writeStringField(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    static void writeDateTimeField(JsonGenerator gen, SerializableString name, LocalDateTime value,
+                                   SerializerProvider provider) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, gen);
+        } else {
+            IsoDateTimeWriter.write(gen, value);
+        }
+    }
+}
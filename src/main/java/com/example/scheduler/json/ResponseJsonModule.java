@@ -0,0 +1,22 @@
+package com.example.scheduler.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * 목록 응답에서 많이 직렬화되는 응답 DTO와 {@link org.springframework.data.domain.Page}의 전용 직렬화기를 등록하는 Jackson 모듈입니다.
+ *
+ * 출력 형식은 기본 직렬화와 같으며, 필드 이름과 {@code null} 처리, 날짜 형식({@code yyyy-MM-ddTHH:mm:ss[.fraction]})도 그대로 유지됩니다.
+ * {@code WRITE_DATES_AS_TIMESTAMPS}를 켠 매퍼에서는 날짜를 기본 직렬화와 같은 배열 형식으로 씁니다.
+ * 직렬화기는 메시지 컨버터가 응답 스트림 위에 만든 {@link com.fasterxml.jackson.core.JsonGenerator}에 바로 쓰며,
+ * 출력 버퍼는 Jackson 의 버퍼 재사용 풀에서 가져옵니다.
+ */
+public class ResponseJsonModule extends SimpleModule {
+
+    public ResponseJsonModule() {
+        super("ResponseJsonModule");
+        addSerializer(new ScheduleResponseSerializer());
+        addSerializer(new SchedulePageResponseSerializer());
+        addSerializer(new CommentResponseSerializer());
+        addSerializer(new PageSerializer());
+    }
+}
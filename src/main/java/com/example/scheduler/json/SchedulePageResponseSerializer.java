@@ -0,0 +1,31 @@
+package com.example.scheduler.json;
+
+import com.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * {@link SchedulePageResponseDto} 직렬화기입니다.
+ */
+class SchedulePageResponseSerializer extends ResponseDtoSerializer<SchedulePageResponseDto> {
+
+    SchedulePageResponseSerializer() {
+        super(SchedulePageResponseDto.class);
+    }
+
+    @Override
+    public void serialize(SchedulePageResponseDto value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        writeNumberField(gen, ID, value.getId());
+        writeStringField(gen, TITLE, value.getTitle());
+        writeStringField(gen, CONTENT, value.getContent());
+        writeStringField(gen, USERNAME, value.getUsername());
+        writeNumberField(gen, COMMENT_COUNT, value.getCommentCount());
+        writeDateTimeField(gen, CREATED_AT, value.getCreatedAt(), provider);
+        writeDateTimeField(gen, MODIFIED_AT, value.getModifiedAt(), provider);
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.scheduler.json;
+
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * {@link ScheduleResponseDto} 직렬화기입니다.
+ */
+class ScheduleResponseSerializer extends ResponseDtoSerializer<ScheduleResponseDto> {
+
+    ScheduleResponseSerializer() {
+        super(ScheduleResponseDto.class);
+    }
+
+    @Override
+    public void serialize(ScheduleResponseDto value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        writeNumberField(gen, ID, value.getId());
+        writeStringField(gen, TITLE, value.getTitle());
+        writeStringField(gen, CONTENT, value.getContent());
+        writeDateTimeField(gen, START_AT, value.getStartAt(), provider);
+        writeDateTimeField(gen, END_AT, value.getEndAt(), provider);
+        writeStringField(gen, USERNAME, value.getUsername());
+        writeDateTimeField(gen, CREATED_AT, value.getCreatedAt(), provider);
+        writeDateTimeField(gen, MODIFIED_AT, value.getModifiedAt(), provider);
+        gen.writeEndObject();
+    }
+}
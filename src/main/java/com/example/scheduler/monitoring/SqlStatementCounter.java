@@ -0,0 +1,83 @@
+package com.example.scheduler.monitoring;
+
+/**
+ * 현재 스레드에서 실행되는 SQL 문 수와 실행 시간을 집계합니다.
+ *
+ * {@link SqlStatementInspector}와 {@link SqlTimingSessionListener}가 Hibernate에서 호출되어 값을 기록하며,
+ * 집계 구간은 HTTP 요청마다 {@link com.example.scheduler.filter.SqlStatementCountFilter}가 열고 닫습니다.
+ * 집계 구간 밖(스케줄 작업 등)에서 실행된 SQL은 기록하지 않습니다.
+ * NDJSON 스트리밍처럼 다른 스레드에서 실행되는 SQL도 해당 요청에 집계되지 않습니다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * 현재 스레드에서 새 집계 구간을 시작합니다. 이미 진행 중인 구간이 있으면 대체합니다.
+     *
+     * @return 집계 결과가 기록될 {@link SqlStatementStats}
+     */
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 스레드의 집계 구간을 종료합니다.
+     *
+     * @return 종료된 구간의 집계 결과, 진행 중인 구간이 없으면 {@code null}
+     */
+    public static SqlStatementStats stop() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * 현재 스레드에서 진행 중인 집계 구간을 반환합니다.
+     *
+     * @return 진행 중인 구간의 집계 결과, 없으면 {@code null}
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 주어진 작업을 실행하는 동안 실행된 SQL 문을 집계합니다.
+     *
+     * @param runnable 실행할 작업
+     * @return 작업 실행 중의 집계 결과
+     */
+    public static SqlStatementStats count(Runnable runnable) {
+        SqlStatementStats previous = CURRENT.get();
+        SqlStatementStats stats = start();
+        try {
+            runnable.run();
+            return stats;
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void recordStatement(String sql) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+    }
+
+    static void recordExecutionTime(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recordExecutionTime(nanos);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.scheduler.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 지금까지 실행된 SQL 문 수와 실행 시간을 응답 헤더에 추가합니다.
+ *
+ * 헤더는 본문보다 먼저 전송되므로 필터가 아닌 이 시점에 설정합니다.
+ * 개발/부하 테스트용이며 {@code scheduler.sql-stats.response-header=true}일 때만 등록됩니다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "scheduler.sql-stats.response-header", havingValue = "true")
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String EXECUTION_TIME_HEADER = "X-Sql-Execution-Millis";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementStats stats = SqlStatementCounter.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENT_COUNT_HEADER, String.valueOf(stats.getCount()));
+            response.getHeaders().set(EXECUTION_TIME_HEADER, String.valueOf(stats.getExecutionNanos() / 1_000_000));
+        }
+        return body;
+    }
+}
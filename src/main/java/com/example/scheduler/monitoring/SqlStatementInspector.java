@@ -0,0 +1,16 @@
+package com.example.scheduler.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 SQL 문을 준비할 때마다 호출되어 {@link SqlStatementCounter}에 기록합니다.
+ * SQL은 변경하지 않고 그대로 반환합니다.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.recordStatement(sql);
+        return sql;
+    }
+}
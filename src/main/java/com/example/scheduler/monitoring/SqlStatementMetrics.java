@@ -0,0 +1,90 @@
+package com.example.scheduler.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 요청당 SQL 문 수와 실행 시간을 Micrometer 지표로 기록합니다.
+ *
+ * 요청당 SQL 문 수는 {@code scheduler.http.sql.statements}, SQL 실행 시간은 {@code scheduler.http.sql.time}으로
+ * {@code http.server.requests}와 같은 {@code method}, {@code uri} 태그를 붙여 기록하므로, 요청 처리 시간 중
+ * DB에서 보낸 시간을 엔드포인트별로 비교할 수 있습니다.
+ * 요청당 평균/최대 SQL 문 수가 데이터 양에 따라 늘어나는 엔드포인트는 N+1 조회를 의심할 수 있습니다.
+ */
+@Component
+public class SqlStatementMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, EndpointMeters> metersByEndpoint = new ConcurrentHashMap<>();
+
+    public SqlStatementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청 하나의 집계 결과를 기록합니다.
+     *
+     * @param method HTTP 메소드
+     * @param uri    매핑된 URL 패턴 (예: {@code /api/schedules/{id}})
+     * @param stats  요청의 집계 결과
+     */
+    public void record(String method, String uri, SqlStatementStats stats) {
+        metersByEndpoint.computeIfAbsent(method + " " + uri, key -> new EndpointMeters(method, uri)).add(stats);
+    }
+
+    /**
+     * 엔드포인트별 누적 통계를 반환합니다.
+     *
+     * @return 엔드포인트를 키로 하는 요청 수, 요청당 평균/최대 SQL 문 수, 평균 실행 시간
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        metersByEndpoint.forEach((endpoint, meters) -> snapshot.put(endpoint, meters.toMap()));
+        return snapshot;
+    }
+
+    private final class EndpointMeters {
+
+        private final DistributionSummary statements;
+        private final Timer executionTime;
+        // 지표의 max 는 최근 구간의 최댓값이므로, 누적 최댓값은 따로 보관
+        private final AtomicLong maxStatements = new AtomicLong();
+
+        EndpointMeters(String method, String uri) {
+            this.statements = DistributionSummary.builder("scheduler.http.sql.statements")
+                    .description("요청 하나에서 실행된 SQL 문 수")
+                    .baseUnit("statements")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry);
+            this.executionTime = Timer.builder("scheduler.http.sql.time")
+                    .description("요청 하나에서 JDBC 실행에 걸린 시간")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry);
+        }
+
+        void add(SqlStatementStats stats) {
+            statements.record(stats.getCount());
+            executionTime.record(stats.getExecutionNanos(), TimeUnit.NANOSECONDS);
+            maxStatements.accumulateAndGet(stats.getCount(), Math::max);
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requestCount", statements.count());
+            map.put("statementCount", (long) statements.totalAmount());
+            map.put("averageStatements", statements.mean());
+            map.put("maxStatements", maxStatements.get());
+            map.put("averageExecutionMillis", executionTime.mean(TimeUnit.MILLISECONDS));
+            return map;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.scheduler.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 하나의 집계 구간(HTTP 요청 또는 테스트)에서 실행된 SQL 문 수와 실행 시간입니다.
+ *
+ * 집계를 시작한 스레드에서만 갱신되므로 동기화하지 않습니다.
+ * 실패 메시지 등에서 확인할 수 있도록 실행된 SQL 문을 최대 {@value #MAX_RECORDED_STATEMENTS}개까지 보관합니다.
+ */
+public class SqlStatementStats {
+
+    private static final int MAX_RECORDED_STATEMENTS = 100;
+
+    private final List<String> statements = new ArrayList<>();
+    private int count;
+    private long executionNanos;
+
+    void recordStatement(String sql) {
+        count++;
+        if (statements.size() < MAX_RECORDED_STATEMENTS) {
+            statements.add(sql);
+        }
+    }
+
+    void recordExecutionTime(long nanos) {
+        executionNanos += nanos;
+    }
+
+    /**
+     * 실행(준비)된 SQL 문 수를 반환합니다.
+     *
+     * @return SQL 문 수
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * JDBC 실행에 걸린 시간의 합계를 반환합니다. 결과 집합을 읽는 시간은 포함하지 않습니다.
+     *
+     * @return 실행 시간 (나노초)
+     */
+    public long getExecutionNanos() {
+        return executionNanos;
+    }
+
+    /**
+     * 실행된 SQL 문 목록을 실행 순서대로 반환합니다.
+     *
+     * @return 최대 {@value #MAX_RECORDED_STATEMENTS}개의 SQL 문
+     */
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+}
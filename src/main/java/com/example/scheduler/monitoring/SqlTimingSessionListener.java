@@ -0,0 +1,33 @@
+package com.example.scheduler.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 문 실행(일괄 실행 포함)에 걸린 시간을 {@link SqlStatementCounter}에 기록하는 세션 이벤트 리스너입니다.
+ * {@code hibernate.session.events.auto} 설정으로 세션마다 새로 생성됩니다.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long executeStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementCounter.recordExecutionTime(System.nanoTime() - executeStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementCounter.recordExecutionTime(System.nanoTime() - batchStartedAt);
+    }
+}
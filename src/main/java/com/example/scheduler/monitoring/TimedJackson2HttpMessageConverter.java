@@ -0,0 +1,42 @@
+package com.example.scheduler.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 본문의 JSON 직렬화 시간을 {@code scheduler.http.serialization} 지표로 기록하는 메시지 컨버터입니다.
+ *
+ * 요청 처리 시간({@code http.server.requests}) 중 DB 시간({@code scheduler.http.sql.time})과 비밀번호 해시 시간
+ * ({@code scheduler.password.hash})을 제외한 나머지가 직렬화에 쓰였는지 구분하기 위해 사용합니다.
+ * 응답 버퍼를 넘는 큰 본문은 소켓 쓰기 시간도 함께 측정됩니다.
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Timer serializationTimer;
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.serializationTimer = Timer.builder("scheduler.http.serialization")
+                .description("응답 본문 JSON 직렬화 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long startedAt = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            serializationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -1,14 +1,74 @@
 package com.example.scheduler.repository;
 
+import com.example.scheduler.dto.ResourceVersionDto;
+import com.example.scheduler.dto.comment.CommentCountDto;
+import com.example.scheduler.dto.comment.CommentResponseDto;
 import com.example.scheduler.entity.Comment;
-import com.example.scheduler.entity.Schedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findAllByScheduleOrderByCreatedAtDesc(Schedule schedule);
-    long countByScheduleId(Long scheduleId);
+    // 일정의 전체 댓글 조회, 일정 엔티티를 로딩하지 않고 schedule_id 로 바로 필터링
+    @Query("select new com.example.scheduler.dto.comment.CommentResponseDto(" +
+            "c.id, c.content, u.username, c.createdAt, c.modifiedAt) " +
+            "from Comment c join c.user u " +
+            "where c.schedule.id = :scheduleId " +
+            "order by c.createdAt desc")
+    List<CommentResponseDto> findAllResponsesByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 조건부 조회용 댓글 목록 버전 정보, 댓글 수와 댓글/작성자의 최종 수정 시각만 집계
+    @Query("select new com.example.scheduler.dto.ResourceVersionDto(count(c), max(c.modifiedAt), max(u.modifiedAt)) " +
+            "from Comment c join c.user u " +
+            "where c.schedule.id = :scheduleId")
+    ResourceVersionDto findVersionByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 커서 페이징의 첫 페이지 조회, 일정 엔티티를 로딩하지 않고 schedule_id 로 바로 필터링
+    @Query("select new com.example.scheduler.dto.comment.CommentResponseDto(" +
+            "c.id, c.content, u.username, c.createdAt, c.modifiedAt) " +
+            "from Comment c join c.user u " +
+            "where c.schedule.id = :scheduleId " +
+            "order by c.createdAt desc, c.id desc")
+    List<CommentResponseDto> findFirstPageByScheduleId(@Param("scheduleId") Long scheduleId, Pageable pageable);
+
+    // 커서 이후 페이지 조회, (schedule_id, created_at, id) 인덱스를 타는 seek 조건 사용
+    @Query("select new com.example.scheduler.dto.comment.CommentResponseDto(" +
+            "c.id, c.content, u.username, c.createdAt, c.modifiedAt) " +
+            "from Comment c join c.user u " +
+            "where c.schedule.id = :scheduleId " +
+            "and c.createdAt <= :createdAt " +
+            "and (c.createdAt < :createdAt or c.id < :id) " +
+            "order by c.createdAt desc, c.id desc")
+    List<CommentResponseDto> findNextPageByScheduleId(@Param("scheduleId") Long scheduleId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    // 일정 삭제 전 청크 단위로 지울 댓글 ID 조회, (schedule_id, ...) 인덱스 사용
+    @Query("select c.id from Comment c where c.schedule.id in :scheduleIds")
+    List<Long> findIdsByScheduleIdIn(@Param("scheduleIds") Collection<Long> scheduleIds, Pageable pageable);
+
+    // 일정들의 댓글을 엔티티 로딩 없이 한 번의 DELETE 로 삭제
+    @Modifying
+    @Query("delete from Comment c where c.schedule.id in :scheduleIds")
+    int deleteAllByScheduleIdIn(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 탈퇴한 사용자의 댓글을 청크 단위로 지우기 위한 ID 조회
+    @Query("select c.id from Comment c where c.user.id = :userId order by c.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 삭제할 댓글들이 속한 일정별 댓글 수 집계 (comment_count 감소용)
+    @Query("select new com.example.scheduler.dto.comment.CommentCountDto(c.schedule.id, count(c)) " +
+            "from Comment c where c.id in :ids group by c.schedule.id")
+    List<CommentCountDto> countByScheduleForIds(@Param("ids") Collection<Long> ids);
+
+    boolean existsByUserId(Long userId);
 }
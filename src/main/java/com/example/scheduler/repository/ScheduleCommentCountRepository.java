@@ -0,0 +1,19 @@
+package com.example.scheduler.repository;
+
+/**
+ * 일정의 댓글 수({@code comment_count})를 원자적으로 증감하는 {@link ScheduleRepository}의 커스텀 구현 조각입니다.
+ * 모든 메소드는 변경된 행 수를 반환하며, 쓰기 트랜잭션 안에서 호출해야 합니다.
+ */
+public interface ScheduleCommentCountRepository {
+    // 댓글 생성 시 댓글 수를 원자적으로 증가
+    int incrementCommentCount(Long id);
+
+    // 여러 댓글이 한 번에 저장된 경우 댓글 수를 원자적으로 증가
+    int increaseCommentCount(Long id, Long count);
+
+    // 댓글 삭제 시 댓글 수를 원자적으로 감소 (0 미만으로 내려가지 않음)
+    int decrementCommentCount(Long id);
+
+    // 여러 댓글이 한 번에 삭제된 경우 댓글 수를 원자적으로 감소 (댓글 수가 count 보다 작으면 변경하지 않음)
+    int decreaseCommentCount(Long id, Long count);
+}
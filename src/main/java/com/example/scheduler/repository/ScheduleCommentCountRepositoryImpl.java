@@ -0,0 +1,82 @@
+package com.example.scheduler.repository;
+
+import com.example.scheduler.entity.Schedule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+
+/**
+ * {@link ScheduleCommentCountRepository}의 구현체입니다.
+ *
+ * JPQL 일괄 UPDATE({@code @Modifying @Query})는 어떤 행이 바뀌었는지 알 수 없어 {@code schedule} 2차 캐시 영역 전체를 비우므로,
+ * 댓글이 작성될 때마다 다른 모든 일정의 캐시도 사라집니다. 여기서는 세션의 JDBC 커넥션으로 직접 UPDATE를 실행하고,
+ * Hibernate가 엔티티를 수정할 때와 같이 해당 일정의 캐시 항목만 커밋될 때까지 잠급니다(READ_WRITE 소프트 잠금).
+ */
+public class ScheduleCommentCountRepositoryImpl implements ScheduleCommentCountRepository {
+
+    private static final String INCREASE_SQL =
+            "update schedules set comment_count = comment_count + ? where id = ?";
+    private static final String DECREASE_SQL =
+            "update schedules set comment_count = comment_count - ? where id = ? and comment_count >= ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int incrementCommentCount(Long id) {
+        return increaseCommentCount(id, 1L);
+    }
+
+    @Override
+    @Transactional
+    public int increaseCommentCount(Long id, Long count) {
+        return update(id, INCREASE_SQL, count, false);
+    }
+
+    @Override
+    @Transactional
+    public int decrementCommentCount(Long id) {
+        return decreaseCommentCount(id, 1L);
+    }
+
+    @Override
+    @Transactional
+    public int decreaseCommentCount(Long id, Long count) {
+        return update(id, DECREASE_SQL, count, true);
+    }
+
+    private int update(Long id, String sql, Long count, boolean guarded) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Schedule.class);
+
+        // 커밋 전까지 다른 세션이 이 일정의 이전 값을 캐시에 넣지 못하도록 항목을 잠금
+        EntityDataAccess cacheAccess = persister.canWriteToCache() ? persister.getCacheAccessStrategy() : null;
+        Object cacheKey = null;
+        if (cacheAccess != null) {
+            cacheKey = cacheAccess.generateCacheKey(id, persister, session.getFactory(), session.getTenantIdentifier());
+            SoftLock lock = cacheAccess.lockItem(session, cacheKey, null);
+            Object lockedKey = cacheKey;
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completedSession) ->
+                    cacheAccess.unlockItem(completedSession, lockedKey, lock));
+        }
+
+        return session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, count);
+                statement.setLong(2, id);
+                if (guarded) {
+                    statement.setLong(3, count);
+                }
+                return statement.executeUpdate();
+            }
+        });
+    }
+}
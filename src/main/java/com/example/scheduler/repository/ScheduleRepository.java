@@ -1,12 +1,155 @@
 package com.example.scheduler.repository;
 
+import com.example.scheduler.dto.ResourceVersionDto;
+import com.example.scheduler.dto.schedule.ScheduleIntervalDto;
+import com.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
 import com.example.scheduler.entity.Schedule;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
-    // 수정일 기준 내림차순 정렬된 일정 조회(페이징)
-    Page<Schedule> findAllByOrderByModifiedAtDesc(Pageable pageable);
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ScheduleRepository extends JpaRepository<Schedule, Long>, ScheduleCommentCountRepository {
+    // 단건 조회, 응답에 필요한 컬럼만 조회
+    @Query("select new com.example.scheduler.dto.schedule.ScheduleResponseDto(" +
+            "s.id, s.title, s.content, s.startAt, s.endAt, u.username, s.createdAt, s.modifiedAt) " +
+            "from Schedule s join s.user u " +
+            "where s.id = :id")
+    Optional<ScheduleResponseDto> findResponseById(@Param("id") Long id);
+
+    // 조건부 조회용 버전 정보, 일정과 작성자의 수정 시각만 조회 (PK 조회)
+    @Query("select new com.example.scheduler.dto.ResourceVersionDto(count(s), max(s.modifiedAt), max(u.modifiedAt)) " +
+            "from Schedule s join s.user u " +
+            "where s.id = :id")
+    ResourceVersionDto findVersionById(@Param("id") Long id);
+
+    // 전체 조회, 응답에 필요한 컬럼만 조회
+    @Query("select new com.example.scheduler.dto.schedule.ScheduleResponseDto(" +
+            "s.id, s.title, s.content, s.startAt, s.endAt, u.username, s.createdAt, s.modifiedAt) " +
+            "from Schedule s join s.user u")
+    List<ScheduleResponseDto> findAllResponses();
+
+    // 검색 결과 ID 목록으로 조회, 응답에 필요한 컬럼만 조회
+    @Query("select new com.example.scheduler.dto.schedule.ScheduleResponseDto(" +
+            "s.id, s.title, s.content, s.startAt, s.endAt, u.username, s.createdAt, s.modifiedAt) " +
+            "from Schedule s join s.user u " +
+            "where s.id in :ids")
+    List<ScheduleResponseDto> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 전체 일정 스트리밍 조회, 결과를 한 번에 메모리에 올리지 않도록 fetch size 단위로 읽음
+    // (MySQL 은 useCursorFetch=true 설정이 있어야 fetch size 가 적용됨)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.example.scheduler.dto.schedule.ScheduleResponseDto(" +
+            "s.id, s.title, s.content, s.startAt, s.endAt, u.username, s.createdAt, s.modifiedAt) " +
+            "from Schedule s join s.user u " +
+            "order by s.id")
+    Stream<ScheduleResponseDto> streamAllResponses();
+
+    // 수정일 기준 내림차순 정렬된 일정 조회(페이징), 댓글 수는 comment_count 컬럼에서 바로 조회
+    @Query(value = "select new com.example.scheduler.dto.schedule.SchedulePageResponseDto(" +
+            "s.id, s.title, s.content, u.username, " +
+            "s.commentCount, " +
+            "s.createdAt, s.modifiedAt) " +
+            "from Schedule s join s.user u " +
+            "order by s.modifiedAt desc",
+            countQuery = "select count(s) from Schedule s")
+    Page<SchedulePageResponseDto> findPageOrderByModifiedAt(Pageable pageable);
+
+    // 커서 페이징의 첫 페이지 조회 (COUNT 쿼리 없음)
+    @Query("select new com.example.scheduler.dto.schedule.SchedulePageResponseDto(" +
+            "s.id, s.title, s.content, u.username, " +
+            "s.commentCount, " +
+            "s.createdAt, s.modifiedAt) " +
+            "from Schedule s join s.user u " +
+            "order by s.modifiedAt desc, s.id desc")
+    List<SchedulePageResponseDto> findFirstPageOrderByModifiedAt(Pageable pageable);
+
+    // 커서 이후 페이지 조회, (modified_at, id) 인덱스를 타는 seek 조건 사용
+    @Query("select new com.example.scheduler.dto.schedule.SchedulePageResponseDto(" +
+            "s.id, s.title, s.content, u.username, " +
+            "s.commentCount, " +
+            "s.createdAt, s.modifiedAt) " +
+            "from Schedule s join s.user u " +
+            "where s.modifiedAt <= :modifiedAt " +
+            "and (s.modifiedAt < :modifiedAt or s.id < :id) " +
+            "order by s.modifiedAt desc, s.id desc")
+    List<SchedulePageResponseDto> findNextPageOrderByModifiedAt(@Param("modifiedAt") LocalDateTime modifiedAt,
+                                                                @Param("id") Long id,
+                                                                Pageable pageable);
+
+    // 변경 피드, 커서 이후 until 까지 생성/수정된 일정을 수정일 오름차순으로 조회
+    @Query("select new com.example.scheduler.dto.schedule.ScheduleResponseDto(" +
+            "s.id, s.title, s.content, s.startAt, s.endAt, u.username, s.createdAt, s.modifiedAt) " +
+            "from Schedule s join s.user u " +
+            "where s.modifiedAt >= :modifiedAt " +
+            "and (s.modifiedAt > :modifiedAt or s.id > :id) " +
+            "and s.modifiedAt <= :until " +
+            "order by s.modifiedAt, s.id")
+    List<ScheduleResponseDto> findChangesAfter(@Param("modifiedAt") LocalDateTime modifiedAt,
+                                               @Param("id") Long id,
+                                               @Param("until") LocalDateTime until,
+                                               Pageable pageable);
+
+    // 기간 조회, [from, to) 와 겹치는 일정을 (시작 시각, ID) 순으로 커서 이후부터 조회
+    // 일정 길이는 최대 max-duration 이므로 시작 시각을 from - max-duration 이후로 제한하여 (start_at, end_at) 인덱스 범위 스캔으로 처리
+    @Query("select new com.example.scheduler.dto.schedule.ScheduleResponseDto(" +
+            "s.id, s.title, s.content, s.startAt, s.endAt, u.username, s.createdAt, s.modifiedAt) " +
+            "from Schedule s join s.user u " +
+            "where s.startAt >= :afterStartAt " +
+            "and (s.startAt > :afterStartAt or s.id > :afterId) " +
+            "and s.startAt < :to " +
+            "and s.endAt > :from " +
+            "order by s.startAt, s.id")
+    List<ScheduleResponseDto> findOverlapping(@Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              @Param("afterStartAt") LocalDateTime afterStartAt,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    // 사용자의 시간이 정해진 일정 구간 조회, 겹침 검사용 구간 트리 구축에 사용 ((user_id, start_at, end_at) 인덱스만 읽음)
+    @Query("select new com.example.scheduler.dto.schedule.ScheduleIntervalDto(s.id, s.startAt, s.endAt) " +
+            "from Schedule s " +
+            "where s.user.id = :userId and s.startAt is not null")
+    List<ScheduleIntervalDto> findIntervalsByUserId(@Param("userId") Long userId);
+
+    // 댓글 수 보정 작업의 청크 단위 ID 조회
+    @Query("select s.id from Schedule s where s.id > :afterId order by s.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ID 범위 내에서 실제 댓글 수와 다른 comment_count 를 다시 계산
+    @Modifying
+    @Query("update Schedule s set s.commentCount = " +
+            "(select count(c) from Comment c where c.schedule.id = s.id) " +
+            "where s.id between :fromId and :toId " +
+            "and s.commentCount <> (select count(c) from Comment c where c.schedule.id = s.id)")
+    int repairCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 삭제 요청한 일정 중 본인이 작성한 일정의 ID 조회 (엔티티 로딩 없음)
+    @Query("select s.id from Schedule s where s.id in :ids and s.user.id = :userId")
+    List<Long> findIdsByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // 일정 삭제 직전 일정 행을 잠가 그 사이 댓글이 추가되지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Schedule s where s.id in :ids")
+    List<Schedule> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 탈퇴한 사용자의 일정을 청크 단위로 지우기 위한 ID 조회
+    @Query("select s.id from Schedule s where s.user.id = :userId order by s.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    boolean existsByUserId(Long userId);
 }
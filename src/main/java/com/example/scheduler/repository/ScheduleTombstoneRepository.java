@@ -0,0 +1,29 @@
+package com.example.scheduler.repository;
+
+import com.example.scheduler.entity.ScheduleTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ScheduleTombstoneRepository extends JpaRepository<ScheduleTombstone, Long> {
+    // 커서 이후 until 까지의 삭제 기록 조회, (deleted_at, id) 인덱스를 타는 seek 조건 사용
+    @Query("select t from ScheduleTombstone t " +
+            "where t.deletedAt >= :deletedAt " +
+            "and (t.deletedAt > :deletedAt or t.id > :id) " +
+            "and t.deletedAt <= :until " +
+            "order by t.deletedAt, t.id")
+    List<ScheduleTombstone> findChangesAfter(@Param("deletedAt") LocalDateTime deletedAt,
+                                             @Param("id") Long id,
+                                             @Param("until") LocalDateTime until,
+                                             Pageable pageable);
+
+    // 보관 기간이 지난 삭제 기록 일괄 삭제
+    @Modifying
+    @Query("delete from ScheduleTombstone t where t.deletedAt < :before")
+    int deleteAllByDeletedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,13 @@
+package com.example.scheduler.repository;
+
+import com.example.scheduler.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 자연 키(natural id)인 이메일로 사용자를 조회하는 {@link UserRepository}의 커스텀 구현 조각입니다.
+ */
+public interface UserNaturalIdRepository {
+    // 이메일(자연 키)로 조회, 2차 캐시의 자연 키 영역에서 ID를 찾으면 조회 쿼리를 실행하지 않음
+    Optional<User> findByEmail(String email);
+}
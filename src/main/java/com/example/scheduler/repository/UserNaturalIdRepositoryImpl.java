@@ -0,0 +1,29 @@
+package com.example.scheduler.repository;
+
+import com.example.scheduler.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * {@link UserNaturalIdRepository}의 구현체입니다.
+ *
+ * 파생 쿼리({@code findByEmail})는 항상 SELECT를 실행하므로, Hibernate의 자연 키 조회 API를 사용하여
+ * 이메일 → ID 매핑은 자연 키 캐시에서, 사용자 엔티티는 엔티티 캐시에서 찾도록 합니다.
+ */
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.scheduler.repository;
+
+import com.example.scheduler.entity.UserPurgeTask;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserPurgeTaskRepository extends JpaRepository<UserPurgeTask, Long> {
+    // 완료되지 않은 작업 ID 조회 (재시작 후에도 남은 작업을 이어서 처리)
+    @Query("select t.id from UserPurgeTask t where t.completedAt is null order by t.id")
+    List<Long> findPendingIds();
+
+    // 청크 처리 중 같은 작업을 다른 작업자가 동시에 처리하지 않도록 작업 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from UserPurgeTask t where t.id = :id")
+    Optional<UserPurgeTask> findForUpdateById(@Param("id") Long id);
+}
@@ -1,13 +1,30 @@
 package com.example.scheduler.repository;
 
 import com.example.scheduler.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
+    // 사용자명으로 조회, 결과 ID를 쿼리 캐시에 보관 (users 테이블이 변경되면 무효화됨)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
-    Optional<User> findByEmail(String email);
+
+    // 탈퇴 처리되지 않은 사용자만 조회
+    List<User> findAllByDeletedAtIsNull();
+
+    // 비밀번호 재암호화 시 다른 비밀번호 변경과 겹치지 않도록 사용자 행을 잠그고 다시 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findForUpdateById(@Param("id") Long id);
 }
@@ -0,0 +1,450 @@
+package com.example.scheduler.search;
+
+import com.example.scheduler.event.ScheduleDeletedEvent;
+import com.example.scheduler.event.ScheduleSavedEvent;
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
+import com.example.scheduler.repository.ScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 스케줄 제목과 내용을 대상으로 하는 프로세스 내 역색인(inverted index)입니다.
+ *
+ * 애플리케이션 시작 시 스케줄 테이블을 스트리밍하여 구축하고, 이후에는 스케줄 생성/수정/삭제 이벤트가
+ * 커밋된 뒤 해당 문서만 갱신합니다. 검색 결과는 BM25로 점수를 매기며, 제목의 단어는 내용보다 높은 가중치를 가집니다.
+ *
+ * 단어별 포스팅은 문서 번호와 단어 빈도를 {@code int[]}로 보관하고, 스케줄 ID와 문서 번호의 매핑도
+ * 박싱 없는 배열 기반 해시 맵을 사용합니다. 수정/삭제된 문서는 삭제 표시만 해 두었다가,
+ * 삭제된 문서가 살아 있는 문서보다 많아지면 문서 번호를 다시 매기며 압축합니다.
+ */
+@Slf4j
+@Component
+public class ScheduleSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MIN_DELETED_FOR_COMPACTION = 1024;
+
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final LongIntMap docIdsBySchedule = new LongIntMap();
+    private final BitSet deletedDocs = new BitSet();
+    private long[] scheduleIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int docCount;
+    private int deletedCount;
+    private long totalLength;
+
+    // 초기 구축 중 이벤트로 갱신된 스케줄, 스트림에서 읽은 이전 값으로 덮어쓰지 않도록 기록
+    private Set<Long> updatedDuringBuild;
+
+    public ScheduleSearchIndex(ScheduleRepository scheduleRepository, TransactionTemplate transactionTemplate) {
+        this.scheduleRepository = scheduleRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 스케줄 테이블 전체를 스트리밍하여 색인을 구축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            updatedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            // 스트림이 열려 있는 동안 트랜잭션이 유지되어야 함
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ScheduleResponseDto> schedules = scheduleRepository.streamAllResponses()) {
+                    schedules.forEach(schedule -> {
+                        lock.writeLock().lock();
+                        try {
+                            if (!updatedDuringBuild.contains(schedule.getId())) {
+                                indexInternal(schedule.getId(), schedule.getTitle(), schedule.getContent());
+                            }
+                        } finally {
+                            lock.writeLock().unlock();
+                        }
+                    });
+                }
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                updatedDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        log.info("검색 색인 구축 완료: 일정 {}개, 단어 {}개, {}ms", size(), termCount(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 스케줄 생성/수정이 커밋된 이후 해당 스케줄을 다시 색인합니다.
+     *
+     * @param event 저장된 스케줄 정보를 담은 {@link ScheduleSavedEvent}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleSaved(ScheduleSavedEvent event) {
+        index(event.getScheduleId(), event.getTitle(), event.getContent());
+    }
+
+    /**
+     * 스케줄 삭제가 커밋된 이후 해당 스케줄을 색인에서 제거합니다.
+     *
+     * @param event 삭제된 스케줄 정보를 담은 {@link ScheduleDeletedEvent}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleDeleted(ScheduleDeletedEvent event) {
+        remove(event.getScheduleId());
+    }
+
+    /**
+     * 스케줄을 색인합니다. 이미 색인된 스케줄이면 기존 문서를 대체합니다.
+     *
+     * @param scheduleId 스케줄 ID
+     * @param title      제목
+     * @param content    내용
+     */
+    public void index(long scheduleId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            if (updatedDuringBuild != null) {
+                updatedDuringBuild.add(scheduleId);
+            }
+            indexInternal(scheduleId, title, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 스케줄을 색인에서 제거합니다.
+     *
+     * @param scheduleId 제거할 스케줄 ID
+     */
+    public void remove(long scheduleId) {
+        lock.writeLock().lock();
+        try {
+            if (updatedDuringBuild != null) {
+                updatedDuringBuild.add(scheduleId);
+            }
+            removeInternal(scheduleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 관련도가 높은 순서로 스케줄 ID를 반환합니다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return BM25 점수 내림차순으로 정렬된 스케줄 ID 목록
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            int liveCount = docCount - deletedCount;
+            if (terms.isEmpty() || liveCount == 0) {
+                return List.of();
+            }
+
+            float averageLength = (float) totalLength / liveCount;
+            float[] scores = new float[docCount];
+            int[] matchedDocs = new int[16];
+            int matchedCount = 0;
+
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    continue;
+                }
+
+                // 삭제 표시된 문서도 포함된 근사 문서 빈도 (압축 시 정확해짐)
+                int documentFrequency = Math.min(postings.size, liveCount);
+                float idf = (float) Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+                for (int i = 0; i < postings.size; i++) {
+                    int docId = postings.docIds[i];
+                    if (deletedDocs.get(docId)) {
+                        continue;
+                    }
+                    int frequency = postings.frequencies[i];
+                    float normalizedLength = 1 - B + B * docLengths[docId] / averageLength;
+                    float termScore = idf * frequency * (K1 + 1) / (frequency + K1 * normalizedLength);
+
+                    if (scores[docId] == 0) {
+                        if (matchedCount == matchedDocs.length) {
+                            matchedDocs = Arrays.copyOf(matchedDocs, matchedCount * 2);
+                        }
+                        matchedDocs[matchedCount++] = docId;
+                    }
+                    scores[docId] += termScore;
+                }
+            }
+
+            // 점수 상위 limit 개만 유지하는 최소 힙
+            PriorityQueue<Integer> topDocs = new PriorityQueue<>(limit + 1,
+                    Comparator.comparingDouble((Integer docId) -> scores[docId]).thenComparing(Comparator.reverseOrder()));
+            for (int i = 0; i < matchedCount; i++) {
+                topDocs.offer(matchedDocs[i]);
+                if (topDocs.size() > limit) {
+                    topDocs.poll();
+                }
+            }
+
+            Long[] result = new Long[topDocs.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = scheduleIds[topDocs.poll()];
+            }
+            return Arrays.asList(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 스케줄 수를 반환합니다.
+     *
+     * @return 삭제되지 않은 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 서로 다른 단어 수를 반환합니다.
+     *
+     * @return 단어 수
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByTerm.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void indexInternal(long scheduleId, String title, String content) {
+        removeInternal(scheduleId);
+
+        // 단어별 빈도 계산 (제목은 가중치만큼 반복해서 셈)
+        Map<String, int[]> frequencies = new HashMap<>();
+        int length = 0;
+        for (String token : SearchTokenizer.tokenize(title)) {
+            frequencies.computeIfAbsent(token, key -> new int[1])[0] += TITLE_WEIGHT;
+            length += TITLE_WEIGHT;
+        }
+        for (String token : SearchTokenizer.tokenize(content)) {
+            frequencies.computeIfAbsent(token, key -> new int[1])[0]++;
+            length++;
+        }
+
+        int docId = docCount++;
+        if (docId == scheduleIds.length) {
+            scheduleIds = Arrays.copyOf(scheduleIds, docId * 2);
+            docLengths = Arrays.copyOf(docLengths, docId * 2);
+        }
+        scheduleIds[docId] = scheduleId;
+        docLengths[docId] = length;
+        totalLength += length;
+        docIdsBySchedule.put(scheduleId, docId);
+
+        // 새 문서 번호는 항상 가장 크므로 포스팅은 문서 번호 순으로 유지됨
+        for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+            postingsByTerm.computeIfAbsent(entry.getKey(), key -> new Postings())
+                    .add(docId, entry.getValue()[0]);
+        }
+    }
+
+    private void removeInternal(long scheduleId) {
+        int docId = docIdsBySchedule.remove(scheduleId);
+        if (docId < 0) {
+            return;
+        }
+        deletedDocs.set(docId);
+        deletedCount++;
+        totalLength -= docLengths[docId];
+
+        if (deletedCount >= MIN_DELETED_FOR_COMPACTION && deletedCount > docCount - deletedCount) {
+            compact();
+        }
+    }
+
+    // 삭제 표시된 문서를 제거하고 살아 있는 문서의 번호를 0부터 다시 매김
+    private void compact() {
+        int[] newDocIds = new int[docCount];
+        int liveCount = 0;
+        for (int docId = 0; docId < docCount; docId++) {
+            if (deletedDocs.get(docId)) {
+                newDocIds[docId] = -1;
+            } else {
+                newDocIds[docId] = liveCount;
+                scheduleIds[liveCount] = scheduleIds[docId];
+                docLengths[liveCount] = docLengths[docId];
+                liveCount++;
+            }
+        }
+
+        Iterator<Postings> iterator = postingsByTerm.values().iterator();
+        while (iterator.hasNext()) {
+            Postings postings = iterator.next();
+            postings.remap(newDocIds);
+            if (postings.size == 0) {
+                iterator.remove();
+            }
+        }
+
+        docIdsBySchedule.clear();
+        for (int docId = 0; docId < liveCount; docId++) {
+            docIdsBySchedule.put(scheduleIds[docId], docId);
+        }
+        deletedDocs.clear();
+        deletedCount = 0;
+        docCount = liveCount;
+    }
+
+    /**
+     * 한 단어가 등장하는 문서 번호와 빈도 목록입니다. 문서 번호 오름차순으로 정렬되어 있습니다.
+     */
+    private static final class Postings {
+
+        private int[] docIds = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int docId, int frequency) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docIds[size] = docId;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        void remap(int[] newDocIds) {
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                int newDocId = newDocIds[docIds[i]];
+                if (newDocId >= 0) {
+                    docIds[newSize] = newDocId;
+                    frequencies[newSize] = frequencies[i];
+                    newSize++;
+                }
+            }
+            size = newSize;
+            if (size < docIds.length / 4) {
+                docIds = Arrays.copyOf(docIds, Math.max(4, size));
+                frequencies = Arrays.copyOf(frequencies, Math.max(4, size));
+            }
+        }
+    }
+
+    /**
+     * 스케줄 ID(양수 long)를 문서 번호(int)로 매핑하는 선형 탐색 해시 맵입니다.
+     * 키 0은 빈 칸을 나타내며, 삭제 시 뒤따르는 항목을 앞으로 당겨 빈 칸 표시(tombstone)를 남기지 않습니다.
+     */
+    private static final class LongIntMap {
+
+        private long[] keys = new long[16];
+        private int[] values = new int[16];
+        private int size;
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (keys[i] != 0) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        int remove(long key) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (keys[i] != key) {
+                if (keys[i] == 0) {
+                    return -1;
+                }
+                i = (i + 1) & mask;
+            }
+            int removed = values[i];
+
+            // 빈 칸 뒤에 이어진 항목 중 원래 위치가 빈 칸 이전인 항목을 빈 칸으로 이동
+            int hole = i;
+            for (int j = (i + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+                int home = slot(keys[j], mask);
+                boolean movable = (j > hole) ? (home <= hole || home > j) : (home <= hole && home > j);
+                if (movable) {
+                    keys[hole] = keys[j];
+                    values[hole] = values[j];
+                    hole = j;
+                }
+            }
+            keys[hole] = 0;
+            size--;
+            return removed;
+        }
+
+        void clear() {
+            Arrays.fill(keys, 0L);
+            size = 0;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = new int[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
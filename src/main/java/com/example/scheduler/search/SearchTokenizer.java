@@ -0,0 +1,65 @@
+package com.example.scheduler.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인과 검색어에 공통으로 사용하는 토크나이저입니다.
+ *
+ * 문자/숫자가 아닌 문자를 기준으로 나눈 뒤, 한글 음절 구간은 띄어쓰기나 조사와 관계없이 부분 일치하도록
+ * 2글자씩 겹치는 바이그램으로 나누고(한 글자 구간은 그대로 사용), 그 외 영문/숫자 구간은 소문자 단어 하나로 사용합니다.
+ * 예: {@code "회의록 정리 Meeting"} → {@code [회의, 의록, 정리, meeting]}
+ */
+final class SearchTokenizer {
+
+    private static final char HANGUL_SYLLABLE_START = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int start = 0;
+        while (start < length) {
+            char c = text.charAt(start);
+            if (!Character.isLetterOrDigit(c)) {
+                start++;
+                continue;
+            }
+
+            // 같은 종류(한글 음절 / 그 외 문자·숫자)가 이어지는 구간을 찾음
+            boolean hangul = isHangulSyllable(c);
+            int end = start + 1;
+            while (end < length) {
+                char next = text.charAt(end);
+                if (!Character.isLetterOrDigit(next) || isHangulSyllable(next) != hangul) {
+                    break;
+                }
+                end++;
+            }
+
+            if (!hangul) {
+                tokens.add(text.substring(start, end).toLowerCase(Locale.ROOT));
+            } else if (end - start == 1) {
+                tokens.add(text.substring(start, end));
+            } else {
+                for (int i = start; i + 2 <= end; i++) {
+                    tokens.add(text.substring(i, i + 2));
+                }
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_SYLLABLE_START && c <= HANGUL_SYLLABLE_END;
+    }
+}
@@ -1,78 +1,187 @@
 package com.example.scheduler.service;
 
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.dto.CursorPageResponseDto;
+import com.example.scheduler.dto.KeysetCursor;
+import com.example.scheduler.dto.ResourceVersionDto;
 import com.example.scheduler.dto.comment.CommentRequestDto;
 import com.example.scheduler.dto.comment.CommentResponseDto;
 import com.example.scheduler.entity.Comment;
 import com.example.scheduler.entity.Schedule;
 import com.example.scheduler.entity.User;
+import com.example.scheduler.event.ScheduleChangedEvent;
+import com.example.scheduler.ingest.CommentWriteBehindBuffer;
+import com.example.scheduler.ingest.CommentWriteBehindBuffer.PendingComment;
 import com.example.scheduler.repository.CommentRepository;
 import com.example.scheduler.repository.ScheduleRepository;
 import com.example.scheduler.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * 댓글 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
  * 댓글 생성, 조회, 수정, 삭제 기능을 담당합니다.
  */
 @RequiredArgsConstructor
+@Timed("scheduler.service")
 @Service
 public class CommentService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduleService scheduleService;
+    private final CommentWriteBehindBuffer writeBehindBuffer;
 
     /**
      * 특정 스케줄에 새로운 댓글을 생성합니다.
+     * 스케줄의 댓글 수({@link Schedule#getCommentCount()})도 같은 트랜잭션 안에서 함께 증가시킵니다.
      *
      * @param scheduleId 댓글을 추가할 스케줄의 ID ({@link Schedule#getId()})
      * @param requestDto 댓글 생성에 필요한 정보를 담은 {@link CommentRequestDto}
-     * @param username   댓글을 작성하는 사용자의 이름 ({@link User#getUsername()}). 세션 등에서 추출된 값입니다.
+     * @param authUser   댓글을 작성하는 로그인 사용자 정보. 작성자는 ID로 참조만 하므로 사용자 조회 쿼리가 실행되지 않습니다.
      * @return 생성된 댓글의 정보를 담은 {@link CommentResponseDto}
-     * @throws IllegalArgumentException 사용자를 찾을 수 없거나, 스케줄을 찾을 수 없거나, username이 null인 경우 발생 가능.
+     * @throws IllegalArgumentException 스케줄을 찾을 수 없는 경우 발생
      */
+    @Transactional
     public CommentResponseDto createComment(
             Long scheduleId,
             CommentRequestDto requestDto,
-            String username) {
+            AuthUser authUser) {
 
-        // 사용자 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. " + username));
+        // 작성자 참조 (조회 없음)
+        User user = userRepository.getReferenceById(authUser.getId());
 
-        // 일정 조회
-        Schedule schedule = scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다. " + scheduleId));
+        // 일정의 댓글 수 증가, 변경된 행이 없으면 일정이 존재하지 않음
+        if (scheduleRepository.incrementCommentCount(scheduleId) == 0) {
+            throw new IllegalArgumentException("일정을 찾을 수 없습니다. " + scheduleId);
+        }
+        Schedule schedule = scheduleRepository.getReferenceById(scheduleId);
 
         // 댓글 생성
         Comment comment = new Comment(requestDto.getContent(), user, schedule);
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(scheduleId));
 
-        return new CommentResponseDto(savedComment);
+        return new CommentResponseDto(savedComment, authUser.getUsername());
+    }
+
+    /**
+     * 쓰기 지연 저장({@code scheduler.comment.write-behind.enabled})을 사용하는 경우 댓글을 대기열에 넣습니다.
+     * 댓글은 잠시 후 다른 댓글과 함께 한 트랜잭션으로 저장되며, 저장되기 전까지는 조회되지 않습니다.
+     * 일정 존재 여부는 일정 캐시({@link ScheduleService#getSchedule})로 확인하므로 같은 일정에 댓글이 몰려도 조회 쿼리가 반복되지 않습니다.
+     * 쓰기 지연 저장을 사용하지 않거나 대기열이 가득 찬 경우에는 빈 값을 반환하며, 호출하는 쪽에서 {@link #createComment}로 즉시 저장합니다.
+     *
+     * @param scheduleId 댓글을 추가할 스케줄의 ID ({@link Schedule#getId()})
+     * @param requestDto 댓글 생성에 필요한 정보를 담은 {@link CommentRequestDto}
+     * @param authUser   댓글을 작성하는 로그인 사용자 정보
+     * @return 대기열에 들어간 댓글 정보 (ID와 생성 시각은 저장 시 정해지므로 {@code null}), 대기열에 넣지 못했으면 빈 값
+     * @throws IllegalArgumentException 스케줄을 찾을 수 없는 경우 발생
+     */
+    public Optional<CommentResponseDto> queueComment(Long scheduleId, CommentRequestDto requestDto, AuthUser authUser) {
+        if (!writeBehindBuffer.isEnabled()) {
+            return Optional.empty();
+        }
+
+        scheduleService.getSchedule(scheduleId);
+        if (!writeBehindBuffer.offer(new PendingComment(scheduleId, authUser.getId(), requestDto.getContent()))) {
+            return Optional.empty();
+        }
+        return Optional.of(new CommentResponseDto(null, requestDto.getContent(), authUser.getUsername(), null, null));
     }
 
     /**
      * 특정 스케줄에 달린 모든 댓글 목록을 조회합니다.
      * 댓글은 생성된 시간의 내림차순으로 정렬됩니다.
+     * 스케줄 엔티티를 로딩하지 않고 응답에 필요한 컬럼만 조회하며, 스케줄 존재 여부는 댓글이 없는 경우에만 확인합니다.
      *
      * @param scheduleId 댓글 목록을 조회할 스케줄의 ID ({@link Schedule#getId()})
      * @return 해당 스케줄의 댓글 목록 ({@link List}<{@link CommentResponseDto}>). 댓글이 없으면 빈 리스트가 반환될 수 있습니다.
      * @throws IllegalArgumentException 해당 ID의 스케줄을 찾을 수 없을 경우 발생
      */
+    @Transactional(readOnly = true)
     public List<CommentResponseDto> getComments(Long scheduleId) {
-        // 일정 조회
-        Schedule schedule = scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다. " + scheduleId));
-
-        // 댓글 목록 조회 및 DTO 변환
-        return commentRepository.findAllByScheduleOrderByCreatedAtDesc(schedule).stream()
-                .map(CommentResponseDto::new)
-                .collect(Collectors.toList());
+        // 댓글 목록을 DTO로 바로 조회
+        List<CommentResponseDto> comments = commentRepository.findAllResponsesByScheduleId(scheduleId);
+
+        // 댓글이 없는 경우에만 일정 존재 여부 확인
+        if (comments.isEmpty() && !scheduleRepository.existsById(scheduleId)) {
+            throw new IllegalArgumentException("일정을 찾을 수 없습니다. " + scheduleId);
+        }
+        return comments;
+    }
+
+    /**
+     * 조건부 조회를 위해 특정 스케줄의 댓글 목록 버전 정보를 조회합니다.
+     * 댓글 수와 댓글/작성자의 최종 수정 시각만 집계하므로, 댓글이 추가/수정/삭제되거나 작성자 정보가 바뀌면 버전이 달라집니다.
+     *
+     * @param scheduleId 댓글 목록을 조회할 스케줄의 ID ({@link Schedule#getId()})
+     * @return 댓글 목록의 {@link ResourceVersionDto}
+     * @throws IllegalArgumentException 해당 ID의 스케줄을 찾을 수 없을 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersionDto getCommentsVersion(Long scheduleId) {
+        ResourceVersionDto version = commentRepository.findVersionByScheduleId(scheduleId);
+
+        // 댓글이 없는 경우에만 일정 존재 여부 확인
+        if (version.getCount() == 0 && !scheduleRepository.existsById(scheduleId)) {
+            throw new IllegalArgumentException("일정을 찾을 수 없습니다. " + scheduleId);
+        }
+        return version;
+    }
+
+    /**
+     * 특정 스케줄에 달린 댓글 목록을 커서 기반으로 페이징 조회합니다.
+     * 댓글은 생성된 시간과 ID의 내림차순으로 정렬되며, 스케줄 엔티티를 로딩하지 않고
+     * (schedule_id, created_at, id) 인덱스를 이용해 해당 페이지의 댓글만 조회합니다.
+     * 스케줄 존재 여부는 첫 페이지가 비어 있는 경우에만 확인합니다.
+     *
+     * @param scheduleId 댓글 목록을 조회할 스케줄의 ID ({@link Schedule#getId()})
+     * @param cursor     이전 페이지 응답의 {@code nextCursor}. 첫 페이지 조회 시에는 {@code null}.
+     * @param size       한 페이지에 표시할 댓글 수 (1 ~ 100).
+     * @return 댓글 목록과 다음 페이지 커서를 담은 {@link CursorPageResponseDto}
+     * @throws IllegalArgumentException 페이지 크기가 범위를 벗어나거나, 커서 형식이 올바르지 않거나, 스케줄을 찾을 수 없을 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentResponseDto> getCommentsWithCursor(Long scheduleId, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하로 입력해주세요.");
+        }
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<CommentResponseDto> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findFirstPageByScheduleId(scheduleId, limit);
+
+            // 댓글이 없는 경우에만 일정 존재 여부 확인
+            if (comments.isEmpty() && !scheduleRepository.existsById(scheduleId)) {
+                throw new IllegalArgumentException("일정을 찾을 수 없습니다. " + scheduleId);
+            }
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            comments = commentRepository.findNextPageByScheduleId(
+                    scheduleId, keysetCursor.getTimestamp(), keysetCursor.getId(), limit);
+        }
+
+        if (comments.size() <= size) {
+            return new CursorPageResponseDto<>(comments, null);
+        }
+
+        List<CommentResponseDto> pageContent = comments.subList(0, size);
+        CommentResponseDto last = pageContent.get(pageContent.size() - 1);
+        String nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        return new CursorPageResponseDto<>(pageContent, nextCursor);
     }
 
     /**
@@ -83,12 +192,12 @@ public class CommentService {
      * @param scheduleId 댓글이 속한 스케줄의 ID ({@link Schedule#getId()})
      * @param commentId  수정할 댓글의 ID ({@link Comment#getId()})
      * @param requestDto 댓글 수정에 필요한 내용을 담은 {@link CommentRequestDto}
-     * @param username   댓글 수정을 요청한 사용자의 이름 ({@link User#getUsername()}).
+     * @param authUser   댓글 수정을 요청한 로그인 사용자 정보.
      * @return 수정된 댓글의 정보를 담은 {@link CommentResponseDto}
-     * @throws IllegalArgumentException 댓글을 찾을 수 없거나, 스케줄 ID가 일치하지 않거나, 수정 권한이 없거나, username이 null인 경우 발생 가능.
+     * @throws IllegalArgumentException 댓글을 찾을 수 없거나, 스케줄 ID가 일치하지 않거나, 수정 권한이 없는 경우 발생
      */
     @Transactional
-    public CommentResponseDto updateComment(Long scheduleId, Long commentId, CommentRequestDto requestDto, String username) {
+    public CommentResponseDto updateComment(Long scheduleId, Long commentId, CommentRequestDto requestDto, AuthUser authUser) {
         // 댓글 조회
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다. " + commentId));
@@ -99,26 +208,29 @@ public class CommentService {
         }
 
         // 작성자 확인
-        if (!comment.getUsername().equals(username)) {
+        if (!comment.isWrittenBy(authUser.getId())) {
             throw new IllegalArgumentException("댓글 수정 권한이 없습니다.");
         }
 
         // 댓글 내용 수정
         comment.update(requestDto.getContent());
+        eventPublisher.publishEvent(new ScheduleChangedEvent(scheduleId));
 
-        return new CommentResponseDto(comment);
+        return new CommentResponseDto(comment, authUser.getUsername());
     }
 
     /**
      * 특정 댓글을 삭제합니다.
+     * 스케줄의 댓글 수({@link Schedule#getCommentCount()})도 같은 트랜잭션 안에서 함께 감소시킵니다.
      * 댓글이 요청된 스케줄에 속하는지, 그리고 요청한 사용자가 댓글 작성자인지 확인합니다.
      *
      * @param scheduleId 댓글이 속한 스케줄의 ID ({@link Schedule#getId()})
      * @param commentId  삭제할 댓글의 ID ({@link Comment#getId()})
-     * @param username   댓글 삭제를 요청한 사용자의 이름 ({@link User#getUsername()}).
-     * @throws IllegalArgumentException 댓글을 찾을 수 없거나, 스케줄 ID가 일치하지 않거나, 삭제 권한이 없거나, username이 null인 경우 발생 가능.
+     * @param authUser   댓글 삭제를 요청한 로그인 사용자 정보.
+     * @throws IllegalArgumentException 댓글을 찾을 수 없거나, 스케줄 ID가 일치하지 않거나, 삭제 권한이 없는 경우 발생
      */
-    public void deleteComment(Long scheduleId, Long commentId, String username) {
+    @Transactional
+    public void deleteComment(Long scheduleId, Long commentId, AuthUser authUser) {
         // 댓글 조회
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다. " + commentId));
@@ -129,11 +241,13 @@ public class CommentService {
         }
 
         // 사용자 확인
-        if (!comment.getUsername().equals(username)) {
+        if (!comment.isWrittenBy(authUser.getId())) {
             throw new IllegalArgumentException("댓글 삭제 권한이 없습니다.");
         }
 
-        // 댓글 삭제
+        // 댓글 삭제 및 일정의 댓글 수 감소
         commentRepository.delete(comment);
+        scheduleRepository.decrementCommentCount(scheduleId);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(scheduleId));
     }
 }
@@ -1,21 +1,55 @@
 package com.example.scheduler.service;
 
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.cache.ScheduleCache;
+import com.example.scheduler.conflict.ScheduleConflictIndex;
+import com.example.scheduler.datasource.PrimaryDataSourceContext;
+import com.example.scheduler.dto.BatchItemErrorDto;
+import com.example.scheduler.dto.ChangeFeedCursor;
+import com.example.scheduler.dto.CursorPageResponseDto;
+import com.example.scheduler.dto.KeysetCursor;
+import com.example.scheduler.dto.ResourceVersionDto;
+import com.example.scheduler.dto.comment.CommentCountDto;
+import com.example.scheduler.dto.schedule.ScheduleBatchResponseDto;
+import com.example.scheduler.dto.schedule.ScheduleChangesResponseDto;
 import com.example.scheduler.dto.schedule.SchedulePageResponseDto;
 import com.example.scheduler.dto.schedule.ScheduleRequestDto;
 import com.example.scheduler.dto.schedule.ScheduleResponseDto;
 import com.example.scheduler.entity.Schedule;
+import com.example.scheduler.entity.ScheduleTombstone;
 import com.example.scheduler.entity.User;
+import com.example.scheduler.event.ScheduleChangedEvent;
+import com.example.scheduler.event.ScheduleDeletedEvent;
+import com.example.scheduler.event.ScheduleSavedEvent;
 import com.example.scheduler.repository.CommentRepository;
 import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.ScheduleTombstoneRepository;
 import com.example.scheduler.repository.UserRepository;
+import com.example.scheduler.search.ScheduleSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 스케줄 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -24,30 +58,117 @@ import java.util.stream.Collectors;
  * 사용자 권한 검증과 데이터 유효성 검사를 수행합니다.
  */
 @RequiredArgsConstructor
+@Timed("scheduler.service")
 @Service
 public class ScheduleService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleTombstoneRepository tombstoneRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final ScheduleCache scheduleCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduleSearchIndex searchIndex;
+    private final ScheduleConflictIndex conflictIndex;
+
+    @Value("${scheduler.schedule.batch-max-size:100}")
+    private int batchMaxSize;
+
+    @Value("${scheduler.schedule.delete-chunk-size:1000}")
+    private int deleteChunkSize;
+
+    @Value("${scheduler.schedule.changes-lag:5s}")
+    private Duration changesLag;
 
+    @Value("${scheduler.schedule.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @Value("${scheduler.schedule.max-duration:31d}")
+    private Duration maxDuration;
 
     /**
      * 새로운 스케줄을 생성합니다.
+     * 작성자는 인증 정보의 사용자 ID로 참조만 하므로 사용자 조회 쿼리가 실행되지 않습니다.
+     * 시작/종료 시각이 있으면 작성자의 다른 일정과 시간이 겹치지 않는지 {@link ScheduleConflictIndex}에서 검사합니다.
      *
-     * @param requestDto 생성할 스케줄의 정보 (제목, 내용)
-     * @param username 스케줄을 생성하는 사용자명
+     * @param requestDto 생성할 스케줄의 정보 (제목, 내용, 시작/종료 시각)
+     * @param authUser 스케줄을 생성하는 로그인 사용자 정보
      * @return 생성된 스케줄 정보를 담은 DTO
-     * @throws IllegalArgumentException 사용자를 찾을 수 없는 경우
+     * @throws IllegalArgumentException 일정 길이가 {@code scheduler.schedule.max-duration}을 넘거나 다른 일정과 시간이 겹치는 경우
+     */
+    @Transactional
+    public ScheduleResponseDto createSchedule(ScheduleRequestDto requestDto, AuthUser authUser) {
+        User user = userRepository.getReferenceById(authUser.getId());
+
+        Schedule schedule = new Schedule(requestDto.getTitle(), requestDto.getContent(),
+                requestDto.getStartAt(), requestDto.getEndAt(), user);
+        saveWithoutOverlap(schedule, authUser.getId());
+
+        // 커밋 이후 검색 색인 갱신
+        publishSaved(schedule);
+        return new ScheduleResponseDto(schedule, authUser.getUsername());
+    }
+
+    /**
+     * 여러 개의 스케줄을 하나의 트랜잭션에서 생성합니다.
+     * 각 항목을 개별적으로 검증하여 유효하지 않은 항목은 오류로 보고하고 나머지 항목만 생성합니다.
+     * ID를 시퀀스에서 미리 할당받으므로 INSERT는 커밋 시 {@code hibernate.jdbc.batch_size} 단위의 JDBC 배치로 전송됩니다.
+     * 일정 길이가 {@code scheduler.schedule.max-duration}을 넘거나 작성자의 다른 일정(같은 요청의 앞선 항목 포함)과
+     * 시간이 겹치는 항목도 오류로 보고합니다.
      *
+     * @param requestDtos 생성할 스케줄 정보 목록 (1 ~ {@code scheduler.schedule.batch-max-size}개)
+     * @param authUser 스케줄을 생성하는 로그인 사용자 정보
+     * @return 생성된 스케줄 목록과 생성되지 않은 항목의 오류를 담은 DTO
+     * @throws IllegalArgumentException 요청 항목 수가 범위를 벗어난 경우
      */
-    public ScheduleResponseDto createSchedule(ScheduleRequestDto requestDto, String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. " + username));
+    @Transactional
+    public ScheduleBatchResponseDto createSchedules(List<ScheduleRequestDto> requestDtos, AuthUser authUser) {
+        if (requestDtos == null || requestDtos.isEmpty() || requestDtos.size() > batchMaxSize) {
+            throw new IllegalArgumentException("한 번에 1개 이상 " + batchMaxSize + "개 이하의 일정을 생성할 수 있습니다.");
+        }
 
-        Schedule schedule = new Schedule(requestDto.getTitle(), requestDto.getContent(), user);
-        Schedule savedSchedule = scheduleRepository.save(schedule);
-        return new ScheduleResponseDto(savedSchedule);
+        User user = userRepository.getReferenceById(authUser.getId());
+        List<Schedule> savedSchedules = new ArrayList<>(requestDtos.size());
+        List<BatchItemErrorDto> errors = new ArrayList<>();
+
+        // 항목별 유효성 검사, 실패한 항목은 건너뜀
+        for (int i = 0; i < requestDtos.size(); i++) {
+            ScheduleRequestDto requestDto = requestDtos.get(i);
+            if (requestDto == null) {
+                errors.add(new BatchItemErrorDto(i, Map.of("request", "요청 항목이 비어 있습니다.")));
+                continue;
+            }
+
+            Set<ConstraintViolation<ScheduleRequestDto>> violations = validator.validate(requestDto);
+            if (!violations.isEmpty()) {
+                Map<String, String> fieldErrors = new LinkedHashMap<>();
+                violations.forEach(violation ->
+                        fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+                errors.add(new BatchItemErrorDto(i, fieldErrors));
+                continue;
+            }
+
+            Schedule schedule = new Schedule(requestDto.getTitle(), requestDto.getContent(),
+                    requestDto.getStartAt(), requestDto.getEndAt(), user);
+            try {
+                saveWithoutOverlap(schedule, authUser.getId());
+            } catch (IllegalArgumentException e) {
+                errors.add(new BatchItemErrorDto(i, Map.of("timeRange", e.getMessage())));
+                continue;
+            }
+            savedSchedules.add(schedule);
+        }
+
+        // 커밋 이후 검색 색인 갱신
+        savedSchedules.forEach(this::publishSaved);
+        List<ScheduleResponseDto> created = savedSchedules.stream()
+                .map(schedule -> new ScheduleResponseDto(schedule, authUser.getUsername()))
+                .toList();
+        return new ScheduleBatchResponseDto(created, errors);
     }
 
     /**
@@ -55,91 +176,399 @@ public class ScheduleService {
      *
      * @return 모든 스케줄 정보를 담은 {@link ScheduleResponseDto} 리스트.
      */
+    @Transactional(readOnly = true)
     public List<ScheduleResponseDto> getSchedules() {
-        return scheduleRepository.findAll().stream()
-                .map(ScheduleResponseDto::new)
-                .collect(Collectors.toList());
+        return scheduleRepository.findAllResponses();
+    }
+
+    /**
+     * 등록된 모든 스케줄을 한 건씩 순회하며 전달합니다.
+     * 전체 목록을 메모리에 올리지 않고 DB 커서로 읽으며, 엔티티 대신 DTO로 바로 조회하여 영속성 컨텍스트에 쌓이는 객체가 없으므로
+     * 스케줄 수와 관계없이 일정한 메모리만 사용합니다.
+     * 스트림이 열려 있는 동안 트랜잭션이 유지되어야 하므로 읽기 전용 트랜잭션 내에서 수행됩니다.
+     *
+     * @param consumer 변환된 {@link ScheduleResponseDto}를 전달받아 처리할 {@link Consumer}
+     */
+    @Transactional(readOnly = true)
+    public void streamSchedules(Consumer<ScheduleResponseDto> consumer) {
+        try (Stream<ScheduleResponseDto> schedules = scheduleRepository.streamAllResponses()) {
+            schedules.forEach(consumer);
+        }
     }
 
     /**
      * 특정 ID에 해당하는 스케줄의 상세 정보를 조회합니다.
+     * 조회 결과는 {@link ScheduleCache}에 보관되며, 스케줄이나 댓글이 변경되면 커밋 이후 무효화됩니다.
+     * 캐시된 값은 다음 변경 전까지 모든 사용자에게 재사용되므로, 캐시에 없을 때는 복제본이 아닌 기본 DB에서 조회합니다.
      *
      * @param id 조회할 스케줄의 ID ({@link Schedule#getId()}).
      * @return 조회된 스케줄의 정보를 담은 {@link ScheduleResponseDto}.
      * @throws IllegalArgumentException 해당 ID의 스케줄을 찾을 수 없을 경우 발생.
      */
     public ScheduleResponseDto getSchedule(Long id) {
-        Schedule schedule = scheduleRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다: " + id));
-        return new ScheduleResponseDto(schedule);
+        return scheduleCache.get(id, key -> PrimaryDataSourceContext.call(() -> scheduleRepository.findResponseById(key)
+                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다: " + key))));
+    }
+
+    /**
+     * 조건부 조회를 위해 스케줄의 버전 정보를 조회합니다.
+     * 스케줄 본문을 읽지 않고 스케줄과 작성자의 수정 시각만 조회하므로, 변경되지 않은 스케줄은 DTO를 만들지 않고 304로 응답할 수 있습니다.
+     * 조회 결과는 스케줄 상세와 함께 {@link ScheduleCache}에 보관되고 같은 이벤트로 무효화됩니다.
+     *
+     * @param id 조회할 스케줄의 ID
+     * @return 스케줄의 {@link ResourceVersionDto}
+     * @throws IllegalArgumentException 해당 ID의 스케줄이 존재하지 않을 경우 발생
+     */
+    public ResourceVersionDto getScheduleVersion(Long id) {
+        return scheduleCache.getVersion(id, key -> {
+            ResourceVersionDto version = PrimaryDataSourceContext.call(() -> scheduleRepository.findVersionById(key));
+            if (version.getCount() == 0) {
+                throw new IllegalArgumentException("일정을 찾을 수 없습니다: " + key);
+            }
+            return version;
+        });
     }
 
     /**
      * 스케줄을 수정합니다.
      *
      * 작성자만 자신의 스케줄을 수정할 수 있습니다.
+     * 시작/종료 시각이 있으면 작성자의 다른 일정과 시간이 겹치지 않는지 {@link ScheduleConflictIndex}에서 검사합니다.
      *
      * @param id 수정할 스케줄의 ID
-     * @param requestDto 수정할 내용 (제목, 내용)
-     * @param username 수정을 욫청한 사용자명
+     * @param requestDto 수정할 내용 (제목, 내용, 시작/종료 시각)
+     * @param authUser 수정을 요청한 로그인 사용자 정보
      * @return 수정된 스케줄 정보를 담은 DTO
-     * @throws IllegalArgumentException 스케줄을 찾을 수 없거나 수정 권한이 없는 경우
+     * @throws IllegalArgumentException 스케줄을 찾을 수 없거나, 수정 권한이 없거나, 일정 길이가 {@code scheduler.schedule.max-duration}을
+     *                                  넘거나, 다른 일정과 시간이 겹치는 경우
      */
     @Transactional
-    public ScheduleResponseDto updateSchedule(Long id, ScheduleRequestDto requestDto, String username) {
+    public ScheduleResponseDto updateSchedule(Long id, ScheduleRequestDto requestDto, AuthUser authUser) {
         Schedule schedule = scheduleRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다. " + id));
 
-        if (!schedule.getUsername().equals(username)) {
+        // 작성자 ID 비교 (작성자 엔티티는 로딩하지 않음)
+        if (!schedule.isWrittenBy(authUser.getId())) {
             throw new IllegalArgumentException("수정 권한이 없습니다.");
         }
 
-        schedule.update(requestDto.getTitle(), requestDto.getContent());
-        return new ScheduleResponseDto(schedule);
+        // 시간이 정해졌거나 해제되는 경우에만 겹침 검사 색인 갱신
+        checkDuration(requestDto.getStartAt(), requestDto.getEndAt());
+        if (requestDto.getStartAt() != null || schedule.getStartAt() != null) {
+            conflictIndex.reserve(authUser.getId(), id, requestDto.getStartAt(), requestDto.getEndAt());
+        }
+
+        schedule.update(requestDto.getTitle(), requestDto.getContent(), requestDto.getStartAt(), requestDto.getEndAt());
+
+        // 커밋 이후 캐시 무효화 및 검색 색인 갱신
+        eventPublisher.publishEvent(new ScheduleChangedEvent(id));
+        publishSaved(schedule);
+        return new ScheduleResponseDto(schedule, authUser.getUsername());
     }
 
     /**
      * 특정 스케줄을 삭제합니다.
      * 스케줄을 작성한 사용자만 자신의 스케줄을 삭제할 수 있습니다.
-     * 스케줄 삭제 시 연관된 댓글도 함께 삭제됩니다 ({@link Schedule} 엔티티의 cascade 설정에 의함).
+     * 연관된 댓글은 엔티티를 로딩하지 않고 함께 삭제됩니다 ({@link #deleteSchedules(List, AuthUser)} 참고).
      *
      * @param id       삭제할 스케줄의 ID ({@link Schedule#getId()}).
-     * @param username 스케줄 삭제를 요청한 사용자의 이름 ({@link User#getUsername()}).
-     * @throws IllegalArgumentException 해당 ID의 스케줄을 찾을 수 없거나, 삭제 권한이 없거나, {@code username}이 null인 경우 발생.
+     * @param authUser 스케줄 삭제를 요청한 로그인 사용자 정보.
+     * @throws IllegalArgumentException 해당 ID의 스케줄을 찾을 수 없거나, 삭제 권한이 없는 경우 발생.
      */
-    public void deleteSchedule(Long id, String username) {
-        Schedule schedule = scheduleRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다. " + id));
+    public void deleteSchedule(Long id, AuthUser authUser) {
+        deleteSchedules(List.of(id), authUser);
+    }
+
+    /**
+     * 여러 개의 스케줄과 그 댓글을 엔티티 로딩 없이 삭제합니다.
+     * 요청한 스케줄 중 하나라도 없거나 본인이 작성하지 않은 스케줄이 있으면 아무것도 삭제하지 않습니다.
+     *
+     * 댓글은 {@code scheduler.schedule.delete-chunk-size}개씩 각각 별도의 트랜잭션에서 삭제하여
+     * 댓글이 많아도 잠금을 오래 유지하지 않으며, 마지막 트랜잭션에서 스케줄 행을 잠근 뒤
+     * 그 사이 추가된 댓글과 스케줄을 한 번의 DELETE로 삭제합니다.
+     * 청크마다 삭제한 댓글 수만큼 일정의 댓글 수도 같은 트랜잭션에서 줄이므로, 중간에 실패하면 일부 댓글만 삭제된 채
+     * 일정이 남더라도 댓글 수는 남은 댓글과 일치합니다.
+     *
+     * @param ids      삭제할 스케줄의 ID 목록 (1 ~ {@code scheduler.schedule.batch-max-size}개).
+     * @param authUser 스케줄 삭제를 요청한 로그인 사용자 정보.
+     * @return 삭제된 스케줄 수
+     * @throws IllegalArgumentException ID 목록 크기가 범위를 벗어나거나, 스케줄을 찾을 수 없거나, 삭제 권한이 없는 경우 발생.
+     */
+    public int deleteSchedules(List<Long> ids, AuthUser authUser) {
+        if (ids == null || ids.isEmpty() || ids.size() > batchMaxSize) {
+            throw new IllegalArgumentException("한 번에 1개 이상 " + batchMaxSize + "개 이하의 일정을 삭제할 수 있습니다.");
+        }
+        List<Long> scheduleIds = ids.stream().distinct().toList();
 
         // 작성자만 삭제 가능
-        if (!schedule.getUsername().equals(username)) {
-            throw new IllegalArgumentException("삭제 권한이 없습니다.");
+        Set<Long> ownedIds = new HashSet<>(scheduleRepository.findIdsByIdInAndUserId(scheduleIds, authUser.getId()));
+        for (Long id : scheduleIds) {
+            if (!ownedIds.contains(id)) {
+                if (!scheduleRepository.existsById(id)) {
+                    throw new IllegalArgumentException("일정을 찾을 수 없습니다. " + id);
+                }
+                throw new IllegalArgumentException("삭제 권한이 없습니다.");
+            }
         }
 
-        scheduleRepository.delete(schedule);
+        // 댓글을 청크 단위로 삭제하고 댓글 수를 함께 갱신 (청크마다 트랜잭션 커밋)
+        PageRequest chunk = PageRequest.of(0, deleteChunkSize);
+        List<Long> commentIds;
+        do {
+            commentIds = transactionTemplate.execute(status -> {
+                List<Long> chunkIds = commentRepository.findIdsByScheduleIdIn(scheduleIds, chunk);
+                if (!chunkIds.isEmpty()) {
+                    for (CommentCountDto commentCount : commentRepository.countByScheduleForIds(chunkIds)) {
+                        scheduleRepository.decreaseCommentCount(commentCount.getScheduleId(), commentCount.getCount());
+                        eventPublisher.publishEvent(new ScheduleChangedEvent(commentCount.getScheduleId()));
+                    }
+                    commentRepository.deleteAllByIdInBatch(chunkIds);
+                }
+                return chunkIds;
+            });
+        } while (commentIds != null && commentIds.size() == deleteChunkSize);
+
+        // 일정 행을 잠근 뒤 남은 댓글과 일정을 삭제
+        transactionTemplate.executeWithoutResult(status -> {
+            scheduleRepository.findAllForUpdateByIdIn(scheduleIds);
+            commentRepository.deleteAllByScheduleIdIn(scheduleIds);
+            scheduleRepository.deleteAllByIdInBatch(scheduleIds);
+
+            // 변경 피드로 삭제를 전달하기 위한 삭제 기록
+            tombstoneRepository.saveAll(scheduleIds.stream().map(ScheduleTombstone::new).toList());
+
+            // 커밋 이후 캐시 무효화 및 검색/겹침 검사 색인에서 제거
+            scheduleIds.forEach(id -> {
+                eventPublisher.publishEvent(new ScheduleChangedEvent(id));
+                eventPublisher.publishEvent(new ScheduleDeletedEvent(id, authUser.getId()));
+            });
+        });
+        return scheduleIds.size();
     }
 
     /**
      * 스케줄 목록을 페이징 처리하여 조회합니다.
      * 결과는 수정된 시간(modifiedAt)을 기준으로 내림차순 정렬됩니다.
      * 각 스케줄에는 연관된 댓글 수가 포함됩니다.
+     * 댓글 수는 같은 조회 쿼리 안에서 집계하므로, 페이지 크기와 관계없이 실행되는 쿼리 수가 일정합니다.
      *
      * @param page 조회할 페이지 번호 (1부터 시작).
      * @param size 한 페이지에 표시할 항목 수.
      * @return 페이징 처리된 스케줄 목록 ({@link Page}<{@link SchedulePageResponseDto}>).
      *         각 {@link SchedulePageResponseDto}는 {@link Schedule} 정보와 댓글 수를 포함합니다.
      */
+    @Transactional(readOnly = true)
     public Page<SchedulePageResponseDto> getSchedulesWithPaging(int page, int size) {
         // 페이지 번호는 0부터 시작하므로 1을 전달받았다면 0으로 반환
         PageRequest pageable = PageRequest.of(page - 1, size);
 
-        // 수정일 기준 내림차순 정렬된 일정 조회
-        Page<Schedule> schedulePage = scheduleRepository.findAllByOrderByModifiedAtDesc(pageable);
+        // 수정일 기준 내림차순 정렬된 일정과 댓글 수를 한 번에 조회
+        return scheduleRepository.findPageOrderByModifiedAt(pageable);
+    }
 
-        // DTO로 변환
-        return schedulePage.map(schedule -> {
-            long commentCount = commentRepository.countByScheduleId(schedule.getId());
-            return new SchedulePageResponseDto(schedule, commentCount);
-        });
+    /**
+     * 스케줄 목록을 커서 기반으로 페이징 조회합니다.
+     * 결과는 수정된 시간(modifiedAt)과 ID를 기준으로 내림차순 정렬되며,
+     * OFFSET 대신 마지막으로 조회한 (modifiedAt, id) 이후의 항목을 조회하므로 깊은 페이지도 일정한 속도로 조회됩니다.
+     * 전체 개수(COUNT)는 계산하지 않습니다.
+     *
+     * @param cursor 이전 페이지 응답의 {@code nextCursor}. 첫 페이지 조회 시에는 {@code null}.
+     * @param size   한 페이지에 표시할 항목 수 (1 ~ 100).
+     * @return 스케줄 목록과 다음 페이지 커서를 담은 {@link CursorPageResponseDto}
+     * @throws IllegalArgumentException 페이지 크기가 범위를 벗어나거나 커서 형식이 올바르지 않은 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<SchedulePageResponseDto> getSchedulesWithCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하로 입력해주세요.");
+        }
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<SchedulePageResponseDto> schedules;
+        if (cursor == null || cursor.isBlank()) {
+            schedules = scheduleRepository.findFirstPageOrderByModifiedAt(limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            schedules = scheduleRepository.findNextPageOrderByModifiedAt(
+                    keysetCursor.getTimestamp(), keysetCursor.getId(), limit);
+        }
+
+        if (schedules.size() <= size) {
+            return new CursorPageResponseDto<>(schedules, null);
+        }
+
+        List<SchedulePageResponseDto> pageContent = schedules.subList(0, size);
+        SchedulePageResponseDto last = pageContent.get(pageContent.size() - 1);
+        String nextCursor = new KeysetCursor(last.getModifiedAt(), last.getId()).encode();
+        return new CursorPageResponseDto<>(pageContent, nextCursor);
+    }
+
+    /**
+     * {@code [from, to)} 기간과 시간이 겹치는 스케줄을 시작 시각 순으로 커서 기반 페이징 조회합니다.
+     * 시간이 정해지지 않은 스케줄은 포함되지 않습니다.
+     * 일정 길이는 {@code scheduler.schedule.max-duration} 이하이므로 {@code from - max-duration} 이후에 시작한 일정만 확인하면 되며,
+     * 이 범위를 {@code (start_at, end_at)} 인덱스로 범위 스캔합니다.
+     *
+     * @param from   조회 시작 시각 (포함)
+     * @param to     조회 종료 시각 (미포함)
+     * @param cursor 이전 페이지 응답의 {@code nextCursor}. 첫 페이지 조회 시에는 {@code null}.
+     * @param size   한 페이지에 표시할 항목 수 (1 ~ 100).
+     * @return 스케줄 목록과 다음 페이지 커서를 담은 {@link CursorPageResponseDto}
+     * @throws IllegalArgumentException 조회 기간이나 페이지 크기가 올바르지 않거나 커서 형식이 올바르지 않은 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ScheduleResponseDto> getSchedulesInRange(LocalDateTime from, LocalDateTime to,
+                                                                          String cursor, int size) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new IllegalArgumentException("조회 종료 시각은 시작 시각보다 늦어야 합니다.");
+        }
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하로 입력해주세요.");
+        }
+
+        // 첫 페이지는 가장 이른 시작 가능 시각부터, 이후 페이지는 마지막으로 조회한 (startAt, id) 이후부터 조회
+        KeysetCursor position = new KeysetCursor(from.minus(maxDuration), 0L);
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            if (keysetCursor.getTimestamp().isAfter(position.getTimestamp())) {
+                position = keysetCursor;
+            }
+        }
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건 더 조회
+        List<ScheduleResponseDto> schedules = scheduleRepository.findOverlapping(
+                from, to, position.getTimestamp(), position.getId(), PageRequest.of(0, size + 1));
+        if (schedules.size() <= size) {
+            return new CursorPageResponseDto<>(schedules, null);
+        }
+
+        List<ScheduleResponseDto> pageContent = schedules.subList(0, size);
+        ScheduleResponseDto last = pageContent.get(pageContent.size() - 1);
+        String nextCursor = new KeysetCursor(last.getStartAt(), last.getId()).encode();
+        return new CursorPageResponseDto<>(pageContent, nextCursor);
+    }
+
+    /**
+     * 커서 이후 생성/수정된 스케줄과 삭제된 스케줄 ID를 조회합니다 (클라이언트 증분 동기화).
+     * 커서 없이 호출하면 처음부터 조회하며, 응답의 {@code nextCursor}를 저장해 두었다가 다음 동기화에 전달합니다.
+     * {@code hasMore}가 {@code true}이면 바로 이어서 다시 조회합니다.
+     *
+     * 수정일은 커밋 이전에 기록되므로, 먼저 시작한 트랜잭션이 늦게 커밋되면 이미 전달한 커서보다 이전 시각의 변경이 생길 수 있습니다.
+     * 이를 놓치지 않도록 현재 시각에서 {@code scheduler.schedule.changes-lag}만큼 이전까지의 변경만 전달합니다.
+     * 복제 지연이 이 시간보다 길면 변경을 놓칠 수 있으므로 복제본이 아닌 기본 DB에서 조회합니다.
+     *
+     * @param cursor 이전 응답의 {@code nextCursor}. 전체 동기화 시에는 {@code null}.
+     * @param size   스케줄과 삭제 ID를 각각 최대 몇 개까지 조회할지 (1 ~ 100).
+     * @return 변경된 스케줄, 삭제된 스케줄 ID, 다음 커서를 담은 {@link ScheduleChangesResponseDto}
+     * @throws IllegalArgumentException 조회 개수가 범위를 벗어나거나, 커서 형식이 올바르지 않거나,
+     *                                  삭제 기록 보관 기간이 지나 전체 동기화가 필요한 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public ScheduleChangesResponseDto getScheduleChanges(String cursor, int size) {
+        return PrimaryDataSourceContext.call(() -> findScheduleChanges(cursor, size));
+    }
+
+    private ScheduleChangesResponseDto findScheduleChanges(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하로 입력해주세요.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean fullSync = cursor == null || cursor.isBlank();
+        ChangeFeedCursor position = fullSync ? ChangeFeedCursor.beginning() : ChangeFeedCursor.decode(cursor);
+
+        // 보관 기간이 지난 삭제 기록은 지워졌을 수 있으므로 전체 동기화가 필요
+        KeysetCursor tombstonePosition = position.getTombstonePosition();
+        if (!fullSync && tombstonePosition.getTimestamp().isBefore(now.minus(tombstoneRetention))) {
+            throw new IllegalArgumentException("동기화 커서가 만료되었습니다. 커서 없이 전체 동기화를 다시 진행해주세요.");
+        }
+
+        LocalDateTime until = now.minus(changesLag);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        KeysetCursor schedulePosition = position.getSchedulePosition();
+        List<ScheduleResponseDto> changed = scheduleRepository.findChangesAfter(
+                schedulePosition.getTimestamp(), schedulePosition.getId(), until, limit);
+        List<ScheduleTombstone> tombstones = tombstoneRepository.findChangesAfter(
+                tombstonePosition.getTimestamp(), tombstonePosition.getId(), until, limit);
+
+        // 남은 변경이 있으면 마지막 항목 위치부터, 모두 전달했으면 until 이후부터 다음 조회
+        boolean moreChanged = changed.size() > size;
+        boolean moreDeleted = tombstones.size() > size;
+        if (moreChanged) {
+            changed = changed.subList(0, size);
+            ScheduleResponseDto last = changed.get(size - 1);
+            schedulePosition = new KeysetCursor(last.getModifiedAt(), last.getId());
+        } else {
+            schedulePosition = new KeysetCursor(until, Long.MAX_VALUE);
+        }
+        if (moreDeleted) {
+            tombstones = tombstones.subList(0, size);
+            ScheduleTombstone last = tombstones.get(size - 1);
+            tombstonePosition = new KeysetCursor(last.getDeletedAt(), last.getId());
+        } else {
+            tombstonePosition = new KeysetCursor(until, Long.MAX_VALUE);
+        }
+
+        List<Long> deletedIds = tombstones.stream().map(ScheduleTombstone::getScheduleId).toList();
+        String nextCursor = new ChangeFeedCursor(schedulePosition, tombstonePosition).encode();
+        return new ScheduleChangesResponseDto(changed, deletedIds, nextCursor, moreChanged || moreDeleted);
+    }
+
+    /**
+     * 제목과 내용에 검색어가 포함된 스케줄을 관련도 순으로 조회합니다.
+     * 검색은 메모리의 {@link ScheduleSearchIndex}에서 수행하고, 결과 스케줄만 ID로 한 번에 조회합니다.
+     * 한글은 두 글자 단위로 색인되므로 띄어쓰기나 조사가 달라도 부분 일치로 검색됩니다.
+     *
+     * @param query 검색어
+     * @param size  최대 결과 수 (1 ~ 100).
+     * @return 관련도 내림차순으로 정렬된 스케줄 목록
+     * @throws IllegalArgumentException 검색어가 비어 있거나 결과 수가 범위를 벗어난 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleResponseDto> searchSchedules(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("결과 수는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하로 입력해주세요.");
+        }
+
+        List<Long> ids = searchIndex.search(query, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // IN 조회 결과를 검색 순위대로 정렬 (색인 갱신 직전에 삭제된 일정은 제외됨)
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            ranks.put(ids.get(i), i);
+        }
+        List<ScheduleResponseDto> schedules = new ArrayList<>(scheduleRepository.findResponsesByIdIn(ids));
+        schedules.sort(Comparator.comparing(schedule -> ranks.get(schedule.getId())));
+        return schedules;
+    }
+
+    // 시간이 정해진 일정은 작성자의 다른 일정과 겹치지 않을 때만 저장
+    private void saveWithoutOverlap(Schedule schedule, Long userId) {
+        checkDuration(schedule.getStartAt(), schedule.getEndAt());
+        if (schedule.getStartAt() == null) {
+            scheduleRepository.save(schedule);
+            return;
+        }
+        conflictIndex.reserveNew(userId, schedule.getStartAt(), schedule.getEndAt(),
+                () -> scheduleRepository.save(schedule).getId());
+    }
+
+    // 기간 조회의 인덱스 범위를 제한하기 위해 일정 길이를 최대 max-duration 으로 제한
+    private void checkDuration(LocalDateTime startAt, LocalDateTime endAt) {
+        if (startAt != null && endAt != null && Duration.between(startAt, endAt).compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException("일정 길이는 최대 " + maxDuration.toDays() + "일까지 입력할 수 있습니다.");
+        }
+    }
+
+    // 커밋 이후 검색 색인에 반영할 저장 이벤트 발행
+    private void publishSaved(Schedule schedule) {
+        eventPublisher.publishEvent(new ScheduleSavedEvent(schedule.getId(), schedule.getTitle(), schedule.getContent()));
     }
 }
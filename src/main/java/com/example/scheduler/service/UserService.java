@@ -1,20 +1,30 @@
 package com.example.scheduler.service;
 
+import com.example.scheduler.auth.AuthMode;
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.auth.AuthTokenProvider;
 import com.example.scheduler.config.PasswordEncoder;
 import com.example.scheduler.dto.user.LoginRequestDto;
 import com.example.scheduler.dto.user.UserRequestDto;
 import com.example.scheduler.dto.user.UserResponseDto;
 import com.example.scheduler.dto.user.UserUpdateRequestDto;
 import com.example.scheduler.entity.User;
+import com.example.scheduler.entity.UserPurgeTask;
+import com.example.scheduler.event.UserChangedEvent;
+import com.example.scheduler.repository.UserPurgeTaskRepository;
 import com.example.scheduler.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -22,12 +32,33 @@ import java.util.stream.Collectors;
  * 회원가입, 사용자 정보 조회, 수정, 삭제, 로그인 기능을 담당합니다.
  */
 
-@RequiredArgsConstructor
+@Timed("scheduler.service")
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserPurgeTaskRepository purgeTaskRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuthTokenProvider tokenProvider;
+    private final AuthMode authMode;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserService(UserRepository userRepository,
+                       UserPurgeTaskRepository purgeTaskRepository,
+                       PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher,
+                       AuthTokenProvider tokenProvider,
+                       @Value("${scheduler.auth.mode:session}") AuthMode authMode,
+                       TransactionTemplate transactionTemplate) {
+        this.userRepository = userRepository;
+        this.purgeTaskRepository = purgeTaskRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.tokenProvider = tokenProvider;
+        this.authMode = authMode;
+        this.transactionTemplate = transactionTemplate;
+    }
 
     /**
      * 새로운 사용자를 생성합니다 (회원가입).
@@ -58,13 +89,14 @@ public class UserService {
     }
 
     /**
-     * 등록된 모든 사용자 목록을 조회합니다.
+     * 등록된 모든 사용자 목록을 조회합니다. 탈퇴 처리된 사용자는 제외됩니다.
      * 각 사용자 엔티티를 {@link UserResponseDto}로 변환하여 반환합니다.
      *
      * @return 모든 사용자의 정보를 담은 {@link UserResponseDto} 리스트
      */
+    @Transactional(readOnly = true)
     public List<UserResponseDto> getUsers() {
-        return userRepository.findAll().stream()
+        return userRepository.findAllByDeletedAtIsNull().stream()
                 .map(UserResponseDto::new)
                 .collect(Collectors.toList());
     }
@@ -76,12 +108,28 @@ public class UserService {
      * @return 조회된 사용자의 정보를 담은 {@link UserResponseDto}
      * @throws IllegalArgumentException 해당 ID의 사용자를 찾을 수 없을 경우 발생
      */
+    @Transactional(readOnly = true)
     public UserResponseDto getUser(Long id) {
         User user = userRepository.findById(id)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. " + id));
         return new UserResponseDto(user);
     }
 
+    /**
+     * 세션이나 토큰의 사용자 ID로 현재 사용자 정보를 조회합니다. 인증 필터가 요청마다 호출하며,
+     * 사용자 엔티티는 2차 캐시에서 읽으므로 대부분 DB를 조회하지 않습니다.
+     * 사용자명은 세션이나 토큰에 저장하지 않고 여기서 읽으므로, 사용자명을 바꾸면 기존 세션/토큰에도 바로 반영됩니다.
+     *
+     * @param id 세션이나 토큰에 담긴 사용자 ID
+     * @return 탈퇴하지 않은 사용자이면 {@link AuthUser}, 없거나 탈퇴한 사용자이면 빈 {@link Optional}
+     */
+    public Optional<AuthUser> findActiveAuthUser(Long id) {
+        return userRepository.findById(id)
+                .filter(user -> !user.isDeleted())
+                .map(user -> new AuthUser(user.getId(), user.getUsername()));
+    }
+
     /**
      * 특정 사용자의 정보를 수정합니다.
      * 이 작업은 트랜잭션 내에서 수행됩니다.
@@ -91,23 +139,22 @@ public class UserService {
      *
      * @param id         수정할 사용자의 고유 ID
      * @param requestDto 사용자 정보 수정에 필요한 정보를 담은 {@link UserUpdateRequestDto}
-     * @param request    HTTP 요청 객체, 세션에서 현재 로그인한 사용자 정보를 가져오기 위해 사용됩니다.
+     * @param authUser   수정을 요청한 현재 로그인 사용자 정보
      * @return 수정된 사용자의 정보를 담은 {@link UserResponseDto}
      * @throws IllegalArgumentException 사용자를 찾을 수 없거나, 권한이 없거나, 현재 비밀번호가 틀리거나, 이메일이 중복될 경우 발생
      */
     @Transactional
-    public UserResponseDto updateUser(Long id, UserUpdateRequestDto requestDto, HttpServletRequest request) {
+    public UserResponseDto updateUser(Long id, UserUpdateRequestDto requestDto, AuthUser authUser) {
+        // 자신의 계정만 수정 가능하도록 체크 (조회 전에 ID로 비교)
+        if (!id.equals(authUser.getId())) {
+            throw new IllegalArgumentException("본인의 계정만 수정할 수 없습니다.");
+        }
+
         // 사용자 조회
         User user = userRepository.findById(id)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. " + id));
 
-        // 자신의 계정만 수정 가능하도록 체크
-        HttpSession session = request.getSession();
-        String sessionUsername = (String) session.getAttribute("username");
-        if (!user.getUsername().equals(sessionUsername)) {
-            throw new IllegalArgumentException("본인의 계정만 수정할 수 없습니다.");
-        }
-
         // 현재 비밀번호 확인
         if (!passwordEncoder.matches(requestDto.getCurrentPassword(), user.getPassword())) {
             throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
@@ -128,37 +175,59 @@ public class UserService {
             String encodePassword = passwordEncoder.encode(requestDto.getNewPassword());
             user.updatePassword(encodePassword);
         }
+
+        // 사용자명이 포함된 캐시는 커밋 이후 무효화
+        eventPublisher.publishEvent(new UserChangedEvent(id));
         return new UserResponseDto(user);
     }
 
     /**
      * 특정 ID에 해당하는 사용자를 삭제합니다 (회원 탈퇴).
-     * <p><strong>주의:</strong> 이 메소드는 현재 요청한 사용자의 권한을 확인하지 않습니다.
-     * 컨트롤러 단이나 이 메소드 내에서 삭제 권한(예: 본인 또는 관리자)을 확인하는 로직이 추가되어야 합니다.</p>
+     * 사용자를 즉시 탈퇴 상태로 표시하고 삭제 작업({@link UserPurgeTask})만 등록하므로, 작성한 데이터의 양과 관계없이 바로 반환됩니다.
+     * 작성한 댓글과 일정, 사용자 행은 {@link com.example.scheduler.job.UserPurgeJob}이 백그라운드에서 청크 단위로 삭제합니다.
+     * 탈퇴 이후에는 기존 세션이나 토큰으로 들어온 요청도 인증 필터에서 거부됩니다({@link #findActiveAuthUser}).
+     * 삭제 요청을 한 사용자가 대상 계정의 소유주인지 확인합니다.
      *
-     * @param id 삭제할 사용자의 고유 ID
-     * @throws IllegalArgumentException 해당 ID의 사용자를 찾을 수 없을 경우 발생
+     * @param id       삭제할 사용자의 고유 ID
+     * @param authUser 삭제를 요청한 현재 로그인 사용자 정보
+     * @throws IllegalArgumentException 권한이 없거나, 해당 ID의 사용자를 찾을 수 없거나 이미 탈퇴 처리된 경우 발생
      */
-    public void deleteUser(Long id) {
+    @Transactional
+    public void deleteUser(Long id, AuthUser authUser) {
+        // 자신의 계정만 삭제 가능하도록 체크 (조회 전에 ID로 비교)
+        if (!id.equals(authUser.getId())) {
+            throw new IllegalArgumentException("본인의 계정만 삭제할 수 있습니다.");
+        }
+
         User user = userRepository.findById(id)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. " + id));
 
-        userRepository.delete(user);
+        user.markDeleted();
+        purgeTaskRepository.save(new UserPurgeTask(id));
+        eventPublisher.publishEvent(new UserChangedEvent(id));
     }
 
     /**
      * 사용자 로그인을 처리합니다.
      * 제공된 이메일로 사용자를 찾고, 비밀번호가 일치하는지 확인합니다.
-     * 로그인 성공 시, HTTP 세션에 사용자 ID와 사용자명을 저장합니다.
+     * 로그인 성공 시, 세션 방식({@link AuthMode#SESSION})이면 HTTP 세션에 사용자 ID를 저장하고,
+     * 토큰 방식({@link AuthMode#TOKEN})이면 서명된 토큰을 발급하여 {@code Authorization} 응답 헤더에 설정합니다.
+     * 저장된 비밀번호 해시의 BCrypt cost가 현재 설정과 다르면 입력된 비밀번호로 다시 암호화하여 저장합니다.
+     * 해시 계산이 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 처리하고, 저장은 사용자 행을 잠근 짧은 트랜잭션에서
+     * 그 사이 비밀번호가 바뀌지 않은 경우에만 비밀번호만 교체합니다.
      *
      * @param requestDto 로그인에 필요한 이메일과 비밀번호를 담은 {@link LoginRequestDto}
      * @param request    HTTP 요청 객체, 세션 생성을 위해 사용됩니다.
-     * @param response   HTTP 응답 객체 (현재 코드에서는 직접 사용되지 않지만, JWT 토큰 등을 쿠키에 설정할 때 사용될 수 있습니다).
+     * @param response   HTTP 응답 객체, 토큰 방식에서 발급한 토큰을 헤더에 설정하는 데 사용됩니다.
+     * @return 토큰 방식이면 발급된 토큰, 세션 방식이면 {@code null}
      * @throws IllegalArgumentException 등록된 사용자가 없거나 비밀번호가 일치하지 않을 경우 발생
+     * @throws java.util.concurrent.RejectedExecutionException 비밀번호 해시 작업 대기열이 가득 찬 경우 발생
      */
-    public void login(LoginRequestDto requestDto, HttpServletRequest request, HttpServletResponse response) {
+    public String login(LoginRequestDto requestDto, HttpServletRequest request, HttpServletResponse response) {
         // 사용자 확인
         User user = userRepository.findByEmail(requestDto.getEmail())
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new IllegalArgumentException("등록된 사용자가 없습니다."));
 
         // 비밀번호 확인
@@ -166,9 +235,28 @@ public class UserService {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
-        // 세션 생성 및 사용자 정보 저장
+        // 저장된 해시의 cost가 현재 설정과 다르면 현재 cost로 다시 암호화
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            rehashPassword(user.getId(), user.getPassword(), passwordEncoder.encode(requestDto.getPassword()));
+        }
+
+        // 토큰 발급 (서버에 상태를 저장하지 않음)
+        if (authMode == AuthMode.TOKEN) {
+            String token = tokenProvider.issue(user.getId());
+            response.setHeader("Authorization", "Bearer " + token);
+            return token;
+        }
+
+        // 세션 생성 및 사용자 ID 저장
         HttpSession session = request.getSession(true);
         session.setAttribute("userId", user.getId());
-        session.setAttribute("username", user.getUsername());
+        return null;
+    }
+
+    // 사용자 행을 잠그고 다시 조회하여, 저장된 해시가 확인한 해시와 같을 때만 새 해시로 교체
+    private void rehashPassword(Long userId, String verifiedHash, String newHash) {
+        transactionTemplate.executeWithoutResult(status -> userRepository.findForUpdateById(userId)
+                .filter(locked -> locked.getPassword().equals(verifiedHash))
+                .ifPresent(locked -> locked.updatePassword(newHash)));
     }
 }
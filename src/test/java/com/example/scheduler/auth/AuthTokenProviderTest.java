@@ -0,0 +1,69 @@
+package com.example.scheduler.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthTokenProviderTest {
+
+    private static final String SECRET = "test-secret";
+
+    private final AuthTokenProvider tokenProvider = new AuthTokenProvider(SECRET, Duration.ofMinutes(30));
+
+    @Test
+    void verifyReturnsUserIdOfIssuedToken() {
+        String token = tokenProvider.issue(42L);
+
+        assertThat(tokenProvider.verify(token)).isEqualTo(42L);
+        // 같은 비밀키를 사용하는 다른 노드에서도 검증됨
+        assertThat(new AuthTokenProvider(SECRET, Duration.ofMinutes(30)).verify(token)).isEqualTo(42L);
+    }
+
+    @Test
+    void verifyRejectsTamperedTokens() {
+        String token = tokenProvider.issue(42L);
+        int signatureStart = token.lastIndexOf('.');
+        String signature = token.substring(signatureStart + 1);
+
+        // 서명 변경
+        char last = signature.charAt(0);
+        String tamperedSignature = token.substring(0, signatureStart + 1)
+                + (last == 'A' ? 'B' : 'A') + signature.substring(1);
+        assertThat(tokenProvider.verify(tamperedSignature)).isNull();
+
+        // 사용자 ID나 만료 시간 변경 (서명은 그대로)
+        assertThat(tokenProvider.verify("43" + token.substring(2))).isNull();
+        String payload = token.substring(0, signatureStart);
+        String extended = payload.substring(0, payload.indexOf('.') + 1) + Long.MAX_VALUE;
+        assertThat(tokenProvider.verify(extended + "." + signature)).isNull();
+
+        // 다른 비밀키로 서명한 토큰
+        String foreign = new AuthTokenProvider("other-secret", Duration.ofMinutes(30)).issue(42L);
+        assertThat(tokenProvider.verify(foreign)).isNull();
+    }
+
+    @Test
+    void verifyRejectsExpiredTokens() {
+        AuthTokenProvider expiredProvider = new AuthTokenProvider(SECRET, Duration.ofSeconds(-1));
+
+        assertThat(expiredProvider.verify(expiredProvider.issue(42L))).isNull();
+    }
+
+    @Test
+    void verifyRejectsMalformedTokens() {
+        String token = tokenProvider.issue(42L);
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+
+        assertThat(tokenProvider.verify(null)).isNull();
+        assertThat(tokenProvider.verify("")).isNull();
+        assertThat(tokenProvider.verify("...")).isNull();
+        assertThat(tokenProvider.verify("42")).isNull();
+        assertThat(tokenProvider.verify(".123." + signature)).isNull();
+        assertThat(tokenProvider.verify("42." + signature)).isNull();
+        assertThat(tokenProvider.verify(token + ".extra")).isNull();
+        assertThat(tokenProvider.verify(token.substring(0, token.lastIndexOf('.') + 1) + "%%%")).isNull();
+        assertThat(tokenProvider.verify("abc.def." + signature)).isNull();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.scheduler.conflict;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    @Test
+    void findsOverlapsOfHalfOpenIntervals() {
+        IntervalTree tree = new IntervalTree();
+        tree.put(1, 10, 20);
+        tree.put(2, 30, 40);
+
+        assertThat(tree.findOverlap(15, 16, IntervalTree.NONE)).isEqualTo(1);
+        assertThat(tree.findOverlap(20, 30, IntervalTree.NONE)).isEqualTo(IntervalTree.NONE);
+        assertThat(tree.findOverlap(5, 50, 1)).isEqualTo(2);
+        assertThat(tree.findOverlap(12, 18, 1)).isEqualTo(IntervalTree.NONE);
+
+        // 같은 ID로 추가하면 구간을 대체
+        tree.put(1, 20, 25);
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.findOverlap(15, 16, IntervalTree.NONE)).isEqualTo(IntervalTree.NONE);
+
+        tree.remove(2);
+        assertThat(tree.findOverlap(35, 36, IntervalTree.NONE)).isEqualTo(IntervalTree.NONE);
+    }
+
+    @Test
+    void agreesWithLinearScanAfterRandomUpdates() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        Map<Long, long[]> intervals = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            long id = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                tree.remove(id);
+                intervals.remove(id);
+            } else {
+                long start = random.nextInt(100_000);
+                long end = start + 1 + random.nextInt(1_000);
+                tree.put(id, start, end);
+                intervals.put(id, new long[]{start, end});
+            }
+
+            long start = random.nextInt(100_000);
+            long end = start + 1 + random.nextInt(1_000);
+            long excludeId = random.nextInt(500);
+            long found = tree.findOverlap(start, end, excludeId);
+
+            boolean expected = intervals.entrySet().stream().anyMatch(entry -> entry.getKey() != excludeId
+                    && entry.getValue()[0] < end && start < entry.getValue()[1]);
+            assertThat(found != IntervalTree.NONE).isEqualTo(expected);
+            if (found != IntervalTree.NONE) {
+                long[] interval = intervals.get(found);
+                assertThat(found).isNotEqualTo(excludeId);
+                assertThat(interval[0] < end && start < interval[1]).isTrue();
+            }
+        }
+        assertThat(tree.size()).isEqualTo(intervals.size());
+    }
+}
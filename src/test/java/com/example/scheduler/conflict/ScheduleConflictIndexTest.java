@@ -0,0 +1,84 @@
+package com.example.scheduler.conflict;
+
+import com.example.scheduler.repository.ScheduleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커밋되지 않은 구간이 다른 트랜잭션의 롤백이나 트리 만료로 사라지지 않는지 확인합니다.
+ * 트랜잭션은 스레드마다 트랜잭션 동기화를 직접 열고 닫아 흉내 내며, 일정이 없는 사용자를 사용하므로 트리는 항상 비어 있는 상태로 구축됩니다.
+ */
+@SpringBootTest
+class ScheduleConflictIndexTest {
+
+    private static final Long USER_ID = 9_000_001L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 5, 1, 9, 0);
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void rollbackKeepsReservationsOfOtherTransactions() throws Exception {
+        // 매 조회마다 만료되어 다시 구축되는 트리
+        ScheduleConflictIndex index = new ScheduleConflictIndex(scheduleRepository, 100, Duration.ofNanos(1));
+        CountDownLatch reserved = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        // 트랜잭션 A: 09:00-10:00 을 등록하고 커밋 전에 대기
+        CompletableFuture<Void> transactionA = CompletableFuture.runAsync(() -> inTransaction(() -> {
+            index.reserveNew(USER_ID, BASE, BASE.plusHours(1), () -> 1L);
+            reserved.countDown();
+            await(finish);
+        }, true));
+        assertThat(reserved.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 트랜잭션 B: 11:00-12:00 을 등록하고 기존 일정을 옮긴 뒤 롤백
+        CompletableFuture.runAsync(() -> inTransaction(() -> {
+            index.reserveNew(USER_ID, BASE.plusHours(2), BASE.plusHours(3), () -> 2L);
+            index.reserve(USER_ID, 2L, BASE.plusHours(4), BASE.plusHours(5));
+        }, false)).get(5, TimeUnit.SECONDS);
+
+        // A 의 구간은 남아 있고, B 가 등록한 구간은 모두 되돌려짐
+        assertThatThrownBy(() -> index.reserveNew(USER_ID, BASE.plusMinutes(30), BASE.plusMinutes(40), () -> 3L))
+                .isInstanceOf(IllegalArgumentException.class);
+        index.reserveNew(USER_ID, BASE.plusHours(2), BASE.plusHours(3), () -> 4L);
+        index.reserveNew(USER_ID, BASE.plusHours(4), BASE.plusHours(5), () -> 5L);
+
+        finish.countDown();
+        transactionA.get(5, TimeUnit.SECONDS);
+    }
+
+    // 현재 스레드에 트랜잭션 동기화를 열고 작업 후 커밋/롤백 완료를 알림
+    private static void inTransaction(Runnable action, boolean commit) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            int status = commit ? TransactionSynchronization.STATUS_COMMITTED
+                    : TransactionSynchronization.STATUS_ROLLED_BACK;
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
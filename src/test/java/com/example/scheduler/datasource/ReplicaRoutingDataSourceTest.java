@@ -0,0 +1,139 @@
+package com.example.scheduler.datasource;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.dto.schedule.ScheduleRequestDto;
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.filter.AuthFilter;
+import com.example.scheduler.repository.UserRepository;
+import com.example.scheduler.service.ScheduleService;
+import com.example.scheduler.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 DB와 복제본을 서로 다른 H2 인메모리 DB로 띄워 라우팅을 확인합니다.
+ * 복제는 H2 {@code SCRIPT} 결과를 복제본에서 다시 실행하는 방식으로 필요한 시점에만 수행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "scheduler.datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.open-in-view=false"
+})
+class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void setUp() {
+        replicate();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        User author = userRepository.save(new User("replica", "replica@example.com", "password"));
+        AuthUser authUser = new AuthUser(author.getId(), author.getUsername());
+        ScheduleResponseDto created = scheduleService.createSchedule(scheduleRequest("복제 확인", "내용"), authUser);
+
+        // 아직 복제되지 않았으므로 읽기 전용 조회에는 보이지 않고, 기본 DB에 고정하면 보임
+        assertThat(scheduleService.getSchedules()).extracting("id").doesNotContain(created.getId());
+        assertThat(PrimaryDataSourceContext.call(scheduleService::getSchedules))
+                .extracting("id").contains(created.getId());
+
+        // 공유 캐시를 채우는 단건 조회는 기본 DB 사용
+        assertThat(scheduleService.getSchedule(created.getId()).getTitle()).isEqualTo("복제 확인");
+
+        replicate();
+        assertThat(scheduleService.getSchedules()).extracting("id").contains(created.getId());
+    }
+
+    @Test
+    void replicaReadsDoNotFillSecondLevelCache() {
+        User user = userRepository.save(new User("before", "cache@example.com", "password"));
+        replicate();
+        new JdbcTemplate(primaryDataSource).update("UPDATE users SET username = 'after' WHERE id = ?", user.getId());
+        entityManagerFactory.getCache().evict(User.class, user.getId());
+
+        // 복제본의 오래된 행은 조회 결과로만 쓰이고 2차 캐시에는 들어가지 않음
+        assertThat(userService.getUser(user.getId()).getUsername()).isEqualTo("before");
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isFalse();
+        assertThat(PrimaryDataSourceContext.call(() -> userService.getUser(user.getId())).getUsername())
+                .isEqualTo("after");
+    }
+
+    @Test
+    void pinsRequestsOfUsersWhoRecentlyWrote() throws Exception {
+        ReadYourWritesInterceptor interceptor =
+                new ReadYourWritesInterceptor(new ReadYourWritesTracker(Duration.ofMinutes(1), 100));
+
+        MockHttpServletRequest write = request("PUT", 1L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(write, response, null);
+        assertThat(PrimaryDataSourceContext.isPinned()).isFalse();
+        interceptor.afterCompletion(write, response, null, null);
+
+        MockHttpServletRequest read = request("GET", 1L);
+        interceptor.preHandle(read, response, null);
+        assertThat(PrimaryDataSourceContext.isPinned()).isTrue();
+        interceptor.afterCompletion(read, response, null, null);
+        assertThat(PrimaryDataSourceContext.isPinned()).isFalse();
+
+        MockHttpServletRequest otherUser = request("GET", 2L);
+        interceptor.preHandle(otherUser, response, null);
+        assertThat(PrimaryDataSourceContext.isPinned()).isFalse();
+        interceptor.afterCompletion(otherUser, response, null, null);
+    }
+
+    // 기본 DB의 스키마와 데이터를 복제본에 그대로 복사
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT", String.class);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+
+    private MockHttpServletRequest request(String method, Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/schedules");
+        request.setAttribute(AuthFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "user" + userId));
+        return request;
+    }
+
+    private ScheduleRequestDto scheduleRequest(String title, String content) {
+        ScheduleRequestDto requestDto = new ScheduleRequestDto();
+        ReflectionTestUtils.setField(requestDto, "title", title);
+        ReflectionTestUtils.setField(requestDto, "content", content);
+        return requestDto;
+    }
+}
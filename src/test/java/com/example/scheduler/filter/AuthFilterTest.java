@@ -0,0 +1,73 @@
+package com.example.scheduler.filter;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.repository.UserRepository;
+import com.example.scheduler.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class AuthFilterTest {
+
+    @Autowired
+    private FilterRegistrationBean<AuthFilter> authFilter;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void rejectsSessionsOfDeletedUsers() throws Exception {
+        User user = userRepository.save(new User("leaving", "leaving@example.com", "password"));
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", user.getId());
+
+        assertThat(filter(session).getStatus()).isEqualTo(200);
+
+        userService.deleteUser(user.getId(), new AuthUser(user.getId(), user.getUsername()));
+
+        assertThat(filter(session).getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void resolvesCurrentUsernameForExistingSessions() throws Exception {
+        User user = userRepository.save(new User("before", "rename@example.com", "password"));
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", user.getId());
+
+        user.update("after", user.getEmail());
+        userRepository.flush();
+
+        MockHttpServletRequest request = request(session);
+        authFilter.getFilter().doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthFilter.AUTH_USER_ATTRIBUTE);
+        assertThat(authUser.getId()).isEqualTo(user.getId());
+        assertThat(authUser.getUsername()).isEqualTo("after");
+    }
+
+    private MockHttpServletResponse filter(MockHttpSession session) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authFilter.getFilter().doFilter(request(session), response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request(MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedules");
+        request.setSession(session);
+        return request;
+    }
+}
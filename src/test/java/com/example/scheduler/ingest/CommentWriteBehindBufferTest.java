@@ -0,0 +1,105 @@
+package com.example.scheduler.ingest;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.dto.comment.CommentRequestDto;
+import com.example.scheduler.dto.comment.CommentResponseDto;
+import com.example.scheduler.entity.Schedule;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.ingest.CommentWriteBehindBuffer.PendingComment;
+import com.example.scheduler.repository.CommentRepository;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.UserRepository;
+import com.example.scheduler.service.CommentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 지연 저장을 켠 상태에서 대기열에 들어간 댓글이 일괄 저장되고 댓글 수가 함께 갱신되는지 확인합니다.
+ * 저장은 별도 스레드에서 커밋되므로 테스트 트랜잭션 없이 전용 H2 DB를 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:write-behind;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "scheduler.comment.write-behind.enabled=true"
+})
+class CommentWriteBehindBufferTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentWriteBehindBuffer writeBehindBuffer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void queuedCommentsAreFlushedWithCommentCount() throws InterruptedException {
+        User author = userRepository.save(new User("writer", "writer@example.com", "password"));
+        Schedule schedule = scheduleRepository.save(new Schedule("쓰기 지연", "내용", author));
+        AuthUser authUser = new AuthUser(author.getId(), author.getUsername());
+        long commentsBefore = commentRepository.count();
+
+        int submitted = 120;
+        for (int i = 0; i < submitted; i++) {
+            Optional<CommentResponseDto> queued =
+                    commentService.queueComment(schedule.getId(), commentRequest("댓글 " + i), authUser);
+            assertThat(queued).isPresent();
+            assertThat(queued.get().getId()).isNull();
+        }
+
+        assertThat(writeBehindBuffer.awaitFlushed(Duration.ofSeconds(5))).isTrue();
+        assertThat(commentRepository.count()).isEqualTo(commentsBefore + submitted);
+        assertThat(scheduleRepository.findById(schedule.getId()).orElseThrow().getCommentCount())
+                .isEqualTo((long) submitted);
+    }
+
+    @Test
+    void shutdownSavesAcceptedCommentsAndRejectsNewOnes() throws InterruptedException {
+        User author = userRepository.save(new User("closer", "closer@example.com", "password"));
+        Schedule schedule = scheduleRepository.save(new Schedule("종료", "내용", author));
+        long commentsBefore = commentRepository.count();
+        CommentWriteBehindBuffer buffer = new CommentWriteBehindBuffer(commentRepository, scheduleRepository,
+                userRepository, eventPublisher, transactionTemplate, true, 1000, 500, Duration.ofMillis(200),
+                new SimpleMeterRegistry());
+
+        int accepted = 50;
+        for (int i = 0; i < accepted; i++) {
+            assertThat(buffer.offer(new PendingComment(schedule.getId(), author.getId(), "댓글 " + i))).isTrue();
+        }
+        buffer.shutdown();
+
+        // 종료가 끝나면 접수한 댓글은 모두 저장되어 있고, 이후 댓글은 즉시 저장하도록 거절
+        assertThat(commentRepository.count()).isEqualTo(commentsBefore + accepted);
+        assertThat(scheduleRepository.findById(schedule.getId()).orElseThrow().getCommentCount())
+                .isEqualTo((long) accepted);
+        assertThat(buffer.offer(new PendingComment(schedule.getId(), author.getId(), "늦은 댓글"))).isFalse();
+    }
+
+    private CommentRequestDto commentRequest(String content) {
+        CommentRequestDto requestDto = new CommentRequestDto();
+        ReflectionTestUtils.setField(requestDto, "content", content);
+        return requestDto;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.scheduler.job;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.entity.Comment;
+import com.example.scheduler.entity.Schedule;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.repository.CommentRepository;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.UserRepository;
+import com.example.scheduler.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 청크 크기가 일괄 삭제 최대 개수보다 커도 탈퇴한 사용자의 데이터가 모두 삭제되는지 확인합니다.
+ * 삭제는 청크마다 별도의 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 전용 H2 DB를 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-purge;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "scheduler.user-purge.interval=1h",
+        "scheduler.user-purge.schedule-chunk-size=5",
+        "scheduler.schedule.batch-max-size=2"
+})
+class UserPurgeJobTest {
+
+    @Autowired
+    private UserPurgeJob userPurgeJob;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void purgesSchedulesWhenChunkSizeExceedsBatchMaxSize() {
+        User user = userRepository.save(new User("purged", "purged@example.com", "password"));
+        for (int i = 0; i < 5; i++) {
+            Schedule schedule = scheduleRepository.save(new Schedule("title" + i, "content" + i, user));
+            commentRepository.save(new Comment("comment", user, schedule));
+        }
+
+        userService.deleteUser(user.getId(), new AuthUser(user.getId(), user.getUsername()));
+
+        assertThat(userPurgeJob.purgePending()).isEqualTo(1);
+        assertThat(userRepository.existsById(user.getId())).isFalse();
+        assertThat(scheduleRepository.existsByUserId(user.getId())).isFalse();
+        assertThat(commentRepository.existsByUserId(user.getId())).isFalse();
+    }
+}
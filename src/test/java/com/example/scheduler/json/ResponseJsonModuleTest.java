@@ -0,0 +1,80 @@
+package com.example.scheduler.json;
+
+import com.example.scheduler.dto.comment.CommentResponseDto;
+import com.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseJsonModuleTest {
+
+    // Spring Boot 와 같이 날짜를 문자열로 쓰는 매퍼
+    private final ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper moduleMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new ResponseJsonModule())
+            .build();
+
+    @Test
+    void writesSameJsonAsDefaultSerialization() throws Exception {
+        assertSameJson(defaultMapper, moduleMapper);
+    }
+
+    @Test
+    void writesSameJsonAsDefaultSerializationWithTimestamps() throws Exception {
+        ObjectMapper timestampDefaultMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ObjectMapper timestampModuleMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new ResponseJsonModule())
+                .build();
+
+        assertSameJson(timestampDefaultMapper, timestampModuleMapper);
+    }
+
+    @Test
+    void formatsDateTimesLikeIsoLocalDateTime() throws Exception {
+        ScheduleResponseDto value = new ScheduleResponseDto(1L, "제목", "내용", null, null, "user1",
+                LocalDateTime.of(2025, 5, 1, 9, 30), LocalDateTime.of(2025, 5, 1, 9, 30, 1, 120_000_000));
+
+        String json = moduleMapper.writeValueAsString(value);
+
+        assertThat(json).contains("\"createdAt\":\"2025-05-01T09:30:00\"")
+                .contains("\"modifiedAt\":\"2025-05-01T09:30:01.12\"");
+    }
+
+    private void assertSameJson(ObjectMapper expectedMapper, ObjectMapper actualMapper) throws Exception {
+        LocalDateTime wholeSecond = LocalDateTime.of(2025, 5, 1, 9, 30);
+        LocalDateTime micros = LocalDateTime.of(2025, 12, 31, 23, 59, 59, 123_456_000);
+        LocalDateTime nanos = LocalDateTime.of(999, 1, 2, 3, 4, 5, 100);
+        LocalDateTime farFuture = LocalDateTime.of(12345, 6, 7, 8, 9, 10);
+
+        List<Object> values = List.of(
+                new ScheduleResponseDto(1L, "제목 \"인용\"", "내용\n줄바꿈", wholeSecond, micros, "user1", wholeSecond, micros),
+                new ScheduleResponseDto(2L, null, null, null, null, null, nanos, null),
+                new SchedulePageResponseDto(3L, "제목", "내용", "user1", 5L, micros, farFuture),
+                new SchedulePageResponseDto(4L, "제목", "내용", "user1", null, null, null),
+                new CommentResponseDto(5L, "댓글", "user2", micros, wholeSecond),
+                new PageImpl<>(List.of(new SchedulePageResponseDto(6L, "제목", "내용", "user1", 0L, micros, micros)),
+                        PageRequest.of(2, 10), 21));
+
+        for (Object value : values) {
+            String expected = expectedMapper.writeValueAsString(value);
+            String actual = actualMapper.writeValueAsString(value);
+
+            assertThat(actualMapper.readTree(actual)).as(expected).isEqualTo(expectedMapper.readTree(expected));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.scheduler.repository;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.dto.comment.CommentRequestDto;
+import com.example.scheduler.entity.Schedule;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.service.CommentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 수 갱신이 해당 일정의 2차 캐시 항목만 무효화하는지 확인합니다.
+ * 캐시는 커밋된 트랜잭션 기준으로 갱신되므로 테스트 트랜잭션 없이 전용 H2 DB를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:comment-count;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class ScheduleCommentCountRepositoryTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void commentCountUpdateKeepsOtherSchedulesCached() {
+        User author = userRepository.save(new User("counter", "counter@example.com", "password"));
+        Schedule other = scheduleRepository.save(new Schedule("다른 일정", "내용", author));
+        Schedule commented = scheduleRepository.save(new Schedule("댓글 일정", "내용", author));
+        entityManagerFactory.getCache().evictAll();
+        scheduleRepository.findById(other.getId());
+        scheduleRepository.findById(commented.getId());
+        assertThat(entityManagerFactory.getCache().contains(Schedule.class, other.getId())).isTrue();
+
+        CommentRequestDto requestDto = new CommentRequestDto();
+        ReflectionTestUtils.setField(requestDto, "content", "댓글");
+        commentService.createComment(commented.getId(), requestDto, new AuthUser(author.getId(), author.getUsername()));
+
+        // 다른 일정은 캐시에 남고, 댓글이 달린 일정은 갱신된 댓글 수로 조회
+        assertThat(entityManagerFactory.getCache().contains(Schedule.class, other.getId())).isTrue();
+        assertThat(scheduleRepository.findById(commented.getId()).orElseThrow().getCommentCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.scheduler.service;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.dto.schedule.ScheduleBatchResponseDto;
+import com.example.scheduler.dto.schedule.ScheduleRequestDto;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ScheduleBatchCreateTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(new User("author", "author@example.com", "password"));
+        authUser = new AuthUser(author.getId(), author.getUsername());
+    }
+
+    @Test
+    void createSchedules_reportsInvalidItemsAndCreatesTheRest() {
+        long before = scheduleRepository.count();
+
+        ScheduleBatchResponseDto response = scheduleService.createSchedules(List.of(
+                scheduleRequest("title1", "content1"),
+                scheduleRequest("", "content2"),
+                scheduleRequest("title3", "content3")), authUser);
+        entityManager.flush();
+
+        assertThat(response.getCreated()).extracting("title").containsExactly("title1", "title3");
+        assertThat(response.getCreated()).allSatisfy(created -> assertThat(created.getId()).isNotNull());
+        assertThat(response.getErrors()).hasSize(1);
+        assertThat(response.getErrors().get(0).getIndex()).isEqualTo(1);
+        assertThat(response.getErrors().get(0).getErrors()).containsKey("title");
+        assertThat(scheduleRepository.count()).isEqualTo(before + 2);
+    }
+
+    private ScheduleRequestDto scheduleRequest(String title, String content) {
+        ScheduleRequestDto requestDto = new ScheduleRequestDto();
+        ReflectionTestUtils.setField(requestDto, "title", title);
+        ReflectionTestUtils.setField(requestDto, "content", content);
+        return requestDto;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.scheduler.service;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.dto.schedule.ScheduleChangesResponseDto;
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
+import com.example.scheduler.entity.Schedule;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ScheduleChangesTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User author;
+
+    private final List<Long> authorScheduleIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 전체 동기화가 여러 페이지로 나뉘도록 페이지 크기보다 많은 일정을 두 사용자로 생성
+        author = userRepository.save(new User("author", "author@example.com", "password"));
+        User other = userRepository.save(new User("other", "other@example.com", "password"));
+        for (int i = 0; i < 3; i++) {
+            authorScheduleIds.add(scheduleRepository.save(new Schedule("title" + i, "content" + i, author)).getId());
+        }
+        for (int i = 0; i < 2; i++) {
+            scheduleRepository.save(new Schedule("title" + i, "content" + i, other));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getScheduleChanges_returnsOnlyChangesAndDeletionsAfterCursor() {
+        AuthUser authUser = new AuthUser(author.getId(), author.getUsername());
+        long total = scheduleRepository.count();
+
+        // 전체 동기화 (페이지 단위로 이어서 조회)
+        List<Long> synced = new ArrayList<>();
+        ScheduleChangesResponseDto response = scheduleService.getScheduleChanges(null, PAGE_SIZE);
+        synced.addAll(response.getChanged().stream().map(ScheduleResponseDto::getId).toList());
+        while (response.isHasMore()) {
+            response = scheduleService.getScheduleChanges(response.getNextCursor(), PAGE_SIZE);
+            synced.addAll(response.getChanged().stream().map(ScheduleResponseDto::getId).toList());
+        }
+        assertThat(synced).hasSize((int) total).doesNotHaveDuplicates();
+
+        // 이후 변경이 없으면 빈 응답
+        String cursor = response.getNextCursor();
+        ScheduleChangesResponseDto unchanged = scheduleService.getScheduleChanges(cursor, PAGE_SIZE);
+        assertThat(unchanged.getChanged()).isEmpty();
+        assertThat(unchanged.getDeletedIds()).isEmpty();
+
+        // 삭제는 삭제 ID로 전달 (삭제 기록도 페이지 단위로 이어서 조회)
+        scheduleService.deleteSchedules(authorScheduleIds, authUser);
+        // 실제로는 다른 요청에서 조회하므로, 커서 시각이 DB에 저장된 정밀도와 같도록 영속성 컨텍스트를 비움
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> deleted = new ArrayList<>();
+        ScheduleChangesResponseDto changes = scheduleService.getScheduleChanges(cursor, PAGE_SIZE);
+        assertThat(changes.getChanged()).isEmpty();
+        deleted.addAll(changes.getDeletedIds());
+        while (changes.isHasMore()) {
+            changes = scheduleService.getScheduleChanges(changes.getNextCursor(), PAGE_SIZE);
+            assertThat(changes.getChanged()).isEmpty();
+            deleted.addAll(changes.getDeletedIds());
+        }
+        assertThat(deleted).containsExactlyInAnyOrderElementsOf(authorScheduleIds);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.scheduler.service;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.dto.comment.CommentRequestDto;
+import com.example.scheduler.dto.schedule.ScheduleRequestDto;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.event.ScheduleDeletedEvent;
+import com.example.scheduler.repository.CommentRepository;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 일정 일괄 삭제와, 댓글이 삭제 청크 크기보다 많은 일정의 삭제를 확인합니다.
+ * 댓글 청크는 각각 별도의 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 전용 H2 DB를 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schedule-delete;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "scheduler.schedule.delete-chunk-size=3"
+})
+class ScheduleDeleteTest {
+
+    private static final int COMMENTS = 10;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private FailingDeleteListener failingDeleteListener;
+
+    @AfterEach
+    void tearDown() {
+        failingDeleteListener.failing.set(false);
+    }
+
+    @Test
+    void deleteSchedules_removesSchedulesAndTheirComments() {
+        AuthUser authUser = authUser("owner");
+        List<Long> ids = List.of(createSchedule(authUser, 2), createSchedule(authUser, 2));
+
+        assertThat(scheduleService.deleteSchedules(ids, authUser)).isEqualTo(2);
+
+        assertThat(scheduleRepository.findAllById(ids)).isEmpty();
+        assertThat(commentRepository.findIdsByScheduleIdIn(ids, PageRequest.of(0, COMMENTS))).isEmpty();
+    }
+
+    @Test
+    void deleteSchedules_rejectsSchedulesOfOtherUsers() {
+        AuthUser authUser = authUser("requester");
+        List<Long> ids = List.of(createSchedule(authUser, 0), createSchedule(authUser("stranger"), 0));
+
+        assertThatThrownBy(() -> scheduleService.deleteSchedules(ids, authUser))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(scheduleRepository.findAllById(ids)).hasSize(2);
+    }
+
+    @Test
+    void deletesCommentsInChunksWithSchedule() {
+        AuthUser authUser = authUser("chunk");
+        Long scheduleId = createSchedule(authUser, COMMENTS);
+
+        assertThat(scheduleService.deleteSchedules(List.of(scheduleId), authUser)).isEqualTo(1);
+
+        assertThat(scheduleRepository.existsById(scheduleId)).isFalse();
+        assertThat(commentRepository.findIdsByScheduleIdIn(List.of(scheduleId), PageRequest.of(0, COMMENTS))).isEmpty();
+    }
+
+    @Test
+    void commentCountMatchesRemainingCommentsWhenFinalDeleteFails() {
+        AuthUser authUser = authUser("partial");
+        Long scheduleId = createSchedule(authUser, COMMENTS);
+        failingDeleteListener.failing.set(true);
+
+        assertThatThrownBy(() -> scheduleService.deleteSchedules(List.of(scheduleId), authUser))
+                .isInstanceOf(IllegalStateException.class);
+
+        // 댓글 청크는 커밋되었고 일정 삭제만 롤백됨, 댓글 수는 남은 댓글(0건)과 일치
+        assertThat(scheduleRepository.findById(scheduleId).orElseThrow().getCommentCount()).isZero();
+        assertThat(commentRepository.findIdsByScheduleIdIn(List.of(scheduleId), PageRequest.of(0, COMMENTS))).isEmpty();
+    }
+
+    private AuthUser authUser(String username) {
+        User user = userRepository.save(new User(username, username + "@example.com", "password"));
+        return new AuthUser(user.getId(), user.getUsername());
+    }
+
+    private Long createSchedule(AuthUser authUser, int comments) {
+        ScheduleRequestDto scheduleRequest = new ScheduleRequestDto();
+        ReflectionTestUtils.setField(scheduleRequest, "title", "삭제");
+        ReflectionTestUtils.setField(scheduleRequest, "content", "내용");
+        Long scheduleId = scheduleService.createSchedule(scheduleRequest, authUser).getId();
+
+        for (int i = 0; i < comments; i++) {
+            CommentRequestDto commentRequest = new CommentRequestDto();
+            ReflectionTestUtils.setField(commentRequest, "content", "댓글 " + i);
+            commentService.createComment(scheduleId, commentRequest, authUser);
+        }
+        assertThat(scheduleRepository.findById(scheduleId).orElseThrow().getCommentCount())
+                .isEqualTo((long) comments);
+        return scheduleId;
+    }
+
+    @TestConfiguration
+    static class FailingDeleteConfig {
+
+        @Bean
+        FailingDeleteListener failingDeleteListener() {
+            return new FailingDeleteListener();
+        }
+    }
+
+    // 켜져 있으면 일정을 삭제하는 마지막 트랜잭션 안에서 예외를 던져 롤백시킴
+    static class FailingDeleteListener {
+
+        final AtomicBoolean failing = new AtomicBoolean();
+
+        @EventListener
+        public void onScheduleDeleted(ScheduleDeletedEvent event) {
+            if (failing.get()) {
+                throw new IllegalStateException("삭제 실패");
+            }
+        }
+    }
+}
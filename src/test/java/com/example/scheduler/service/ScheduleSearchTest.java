@@ -0,0 +1,62 @@
+package com.example.scheduler.service;
+
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
+import com.example.scheduler.entity.Schedule;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.UserRepository;
+import com.example.scheduler.search.ScheduleSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class ScheduleSearchTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private ScheduleSearchIndex searchIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void searchSchedules_returnsMatchesOrderedByRelevance() {
+        User author = userRepository.save(new User("author", "author@example.com", "password"));
+        Schedule titleMatch = scheduleRepository.save(new Schedule("주간 회의록 정리", "다음 주 일정 공유", author));
+        Schedule contentMatch = scheduleRepository.save(new Schedule("업무 메모", "금요일 회의록 작성하기", author));
+        Schedule noMatch = scheduleRepository.save(new Schedule("점심 약속", "12시 정문 앞", author));
+        entityManager.flush();
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 이벤트 대신 직접 색인
+        for (Schedule schedule : List.of(titleMatch, contentMatch, noMatch)) {
+            searchIndex.index(schedule.getId(), schedule.getTitle(), schedule.getContent());
+        }
+
+        try {
+            List<ScheduleResponseDto> results = scheduleService.searchSchedules("회의록", 10);
+
+            assertThat(results).extracting("id").containsExactly(titleMatch.getId(), contentMatch.getId());
+            assertThatThrownBy(() -> scheduleService.searchSchedules(" ", 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            List.of(titleMatch, contentMatch, noMatch).forEach(schedule -> searchIndex.remove(schedule.getId()));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.scheduler.service;
+
+import com.example.scheduler.entity.Comment;
+import com.example.scheduler.entity.Schedule;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.monitoring.SqlStatementCounter;
+import com.example.scheduler.repository.CommentRepository;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.UserRepository;
+import com.example.scheduler.support.MaxStatements;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ScheduleServiceTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자와 댓글 수 조회가 페이지 크기에 따라 늘어나는지 보도록 여러 사용자의 일정을 생성
+        // (첫 페이지가 모자라면 개수 조회가 생략되므로 비교하는 두 페이지(5건, 10건)보다 많이 생성)
+        for (int i = 0; i < 2; i++) {
+            User user = userRepository.save(new User("user" + i, "user" + i + "@example.com", "password"));
+            for (int j = 0; j < 6; j++) {
+                Schedule schedule = scheduleRepository.save(new Schedule("title" + j, "content" + j, user));
+                commentRepository.save(new Comment("comment", user, schedule));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getSchedulesWithPaging_statementCountDoesNotDependOnPageSize() {
+        long smallPage = countStatements(() -> scheduleService.getSchedulesWithPaging(1, 5));
+        long largePage = countStatements(() -> scheduleService.getSchedulesWithPaging(1, 10));
+
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    @MaxStatements(2)
+    void getSchedulesWithPaging_issuesOnlyPageAndCountQueries() {
+        scheduleService.getSchedulesWithPaging(1, 50);
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getSchedulesWithCursor_issuesSingleQuery() {
+        scheduleService.getSchedulesWithCursor(null, 50);
+    }
+
+    private long countStatements(Runnable runnable) {
+        entityManager.clear();
+        return SqlStatementCounter.count(runnable).getCount();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.scheduler.service;
+
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.dto.CursorPageResponseDto;
+import com.example.scheduler.dto.schedule.ScheduleBatchResponseDto;
+import com.example.scheduler.dto.schedule.ScheduleRequestDto;
+import com.example.scheduler.dto.schedule.ScheduleResponseDto;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class ScheduleTimeRangeTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(new User("author", "author@example.com", "password"));
+        authUser = new AuthUser(author.getId(), author.getUsername());
+    }
+
+    @Test
+    void createAndUpdateSchedule_rejectOverlappingTimeRangesOfSameUser() {
+        User other = userRepository.save(new User("other", "other@example.com", "password"));
+        AuthUser otherUser = new AuthUser(other.getId(), other.getUsername());
+        LocalDateTime nine = LocalDateTime.of(2030, 3, 4, 9, 0);
+
+        ScheduleResponseDto morning = scheduleService.createSchedule(
+                scheduleRequest("오전 회의", "내용", nine, nine.plusHours(1)), authUser);
+
+        // 같은 사용자의 겹치는 일정은 거부, 끝나는 시각에 시작하는 일정과 다른 사용자의 일정은 허용
+        assertThatThrownBy(() -> scheduleService.createSchedule(
+                scheduleRequest("겹침", "내용", nine.plusMinutes(30), nine.plusMinutes(90)), authUser))
+                .isInstanceOf(IllegalArgumentException.class);
+        ScheduleResponseDto next = scheduleService.createSchedule(
+                scheduleRequest("다음 회의", "내용", nine.plusHours(1), nine.plusHours(2)), authUser);
+        scheduleService.createSchedule(scheduleRequest("다른 사용자", "내용", nine, nine.plusHours(2)), otherUser);
+
+        // 수정 시 자기 자신과는 겹침으로 보지 않음
+        scheduleService.updateSchedule(morning.getId(),
+                scheduleRequest("오전 회의", "시간 조정", nine.minusMinutes(30), nine.plusHours(1)), authUser);
+        assertThatThrownBy(() -> scheduleService.updateSchedule(next.getId(),
+                scheduleRequest("다음 회의", "내용", nine.plusMinutes(45), nine.plusHours(2)), authUser))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 최대 길이를 넘는 일정은 거부
+        assertThatThrownBy(() -> scheduleService.createSchedule(
+                scheduleRequest("장기", "내용", nine.plusDays(1), nine.plusDays(40)), authUser))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void createSchedules_reportsItemsOverlappingEarlierItems() {
+        LocalDateTime nine = LocalDateTime.of(2030, 4, 1, 9, 0);
+
+        ScheduleBatchResponseDto response = scheduleService.createSchedules(List.of(
+                scheduleRequest("첫 번째", "내용", nine, nine.plusHours(1)),
+                scheduleRequest("겹침", "내용", nine.plusMinutes(10), nine.plusMinutes(20)),
+                scheduleRequest("세 번째", "내용", nine.plusHours(1), nine.plusHours(2))), authUser);
+
+        assertThat(response.getCreated()).extracting("title").containsExactly("첫 번째", "세 번째");
+        assertThat(response.getErrors()).hasSize(1);
+        assertThat(response.getErrors().get(0).getIndex()).isEqualTo(1);
+        assertThat(response.getErrors().get(0).getErrors()).containsKey("timeRange");
+    }
+
+    @Test
+    void getSchedulesInRange_returnsOverlappingSchedulesInStartOrder() {
+        LocalDateTime day = LocalDateTime.of(2030, 5, 1, 0, 0);
+        List<Long> expected = new ArrayList<>();
+
+        // 기간 이전에 시작해 기간 중에 끝나는 여러 날짜 일정
+        expected.add(scheduleService.createSchedule(
+                scheduleRequest("출장", "내용", day.minusDays(3), day.plusHours(9)), authUser).getId());
+        for (int hour = 10; hour < 15; hour++) {
+            expected.add(scheduleService.createSchedule(
+                    scheduleRequest("회의 " + hour, "내용", day.plusHours(hour), day.plusHours(hour + 1)), authUser).getId());
+        }
+        // 기간 밖의 일정과 시간이 정해지지 않은 일정
+        scheduleService.createSchedule(scheduleRequest("이전", "내용", day.minusDays(5), day.minusDays(4)), authUser);
+        scheduleService.createSchedule(scheduleRequest("이후", "내용", day.plusDays(1), day.plusDays(2)), authUser);
+        scheduleService.createSchedule(scheduleRequest("미정", "내용", null, null), authUser);
+
+        List<Long> found = new ArrayList<>();
+        CursorPageResponseDto<ScheduleResponseDto> page =
+                scheduleService.getSchedulesInRange(day, day.plusDays(1), null, 4);
+        found.addAll(page.getContent().stream().map(ScheduleResponseDto::getId).toList());
+        while (page.getNextCursor() != null) {
+            page = scheduleService.getSchedulesInRange(day, day.plusDays(1), page.getNextCursor(), 4);
+            found.addAll(page.getContent().stream().map(ScheduleResponseDto::getId).toList());
+        }
+
+        assertThat(found).containsExactlyElementsOf(expected);
+        assertThatThrownBy(() -> scheduleService.getSchedulesInRange(day, day, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ScheduleRequestDto scheduleRequest(String title, String content, LocalDateTime startAt, LocalDateTime endAt) {
+        ScheduleRequestDto requestDto = new ScheduleRequestDto();
+        ReflectionTestUtils.setField(requestDto, "title", title);
+        ReflectionTestUtils.setField(requestDto, "content", content);
+        ReflectionTestUtils.setField(requestDto, "startAt", startAt);
+        ReflectionTestUtils.setField(requestDto, "endAt", endAt);
+        return requestDto;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.scheduler.service;
+
+import com.example.scheduler.dto.ResourceVersionDto;
+import com.example.scheduler.entity.Schedule;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.repository.ScheduleRepository;
+import com.example.scheduler.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class ScheduleVersionTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void getScheduleVersion_returnsVersionWithoutLoadingSchedule() {
+        User author = userRepository.save(new User("author", "author@example.com", "password"));
+        Long id = scheduleRepository.save(new Schedule("title", "content", author)).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        ResourceVersionDto version = scheduleService.getScheduleVersion(id);
+
+        assertThat(version.getCount()).isEqualTo(1L);
+        assertThat(version.toETag()).isEqualTo(scheduleService.getScheduleVersion(id).toETag());
+        assertThat(version.getLastModifiedMillis()).isPositive();
+        assertThatThrownBy(() -> scheduleService.getScheduleVersion(Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.scheduler.service;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import com.example.scheduler.auth.AuthUser;
+import com.example.scheduler.config.PasswordEncoder;
+import com.example.scheduler.dto.user.LoginRequestDto;
+import com.example.scheduler.entity.User;
+import com.example.scheduler.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void login_rehashesPasswordWithCurrentCost() {
+        // 현재 설정(cost=4)과 다른 cost 로 저장된 비밀번호
+        String oldHash = BCrypt.withDefaults().hashToString(5, "password".toCharArray());
+        User user = userRepository.save(new User("rehash", "rehash@example.com", oldHash));
+        entityManager.flush();
+        entityManager.clear();
+
+        userService.login(loginRequest("rehash@example.com", "password"),
+                new MockHttpServletRequest(), new MockHttpServletResponse());
+        entityManager.flush();
+        entityManager.clear();
+
+        String newHash = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertThat(newHash).isNotEqualTo(oldHash);
+        assertThat(passwordEncoder.needsRehash(newHash)).isFalse();
+        assertThat(passwordEncoder.matches("password", newHash)).isTrue();
+    }
+
+    @Test
+    void deleteUser_rejectsAccountsOfOtherUsers() {
+        User target = userRepository.save(new User("target", "target@example.com", "password"));
+        User other = userRepository.save(new User("other", "other@example.com", "password"));
+
+        assertThatThrownBy(() -> userService.deleteUser(target.getId(), new AuthUser(other.getId(), other.getUsername())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(userService.findActiveAuthUser(target.getId())).isPresent();
+    }
+
+    private LoginRequestDto loginRequest(String email, String password) {
+        LoginRequestDto requestDto = new LoginRequestDto();
+        ReflectionTestUtils.setField(requestDto, "email", email);
+        ReflectionTestUtils.setField(requestDto, "password", password);
+        return requestDto;
+    }
+}
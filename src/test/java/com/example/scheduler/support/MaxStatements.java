@@ -0,0 +1,29 @@
+package com.example.scheduler.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메소드 본문에서 실행되는 SQL 문 수의 상한을 지정합니다.
+ * {@code @BeforeEach} 에서 실행된 SQL은 세지 않으며, 상한을 넘으면 실행된 SQL 목록과 함께 테스트가 실패합니다.
+ *
+ * <pre>{@code
+ * @Test
+ * @MaxStatements(2)
+ * void getSchedulesWithPaging_doesNotIssueNPlusOneQueries() { ... }
+ * }</pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementCountExtension.class)
+public @interface MaxStatements {
+
+    /**
+     * 허용하는 최대 SQL 문 수
+     */
+    int value();
+}
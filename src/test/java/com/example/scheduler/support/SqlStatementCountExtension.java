@@ -0,0 +1,38 @@
+package com.example.scheduler.support;
+
+import com.example.scheduler.monitoring.SqlStatementCounter;
+import com.example.scheduler.monitoring.SqlStatementStats;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * {@link MaxStatements}가 지정된 테스트 메소드 본문의 SQL 문 수를 세고, 상한을 넘으면 테스트를 실패시킵니다.
+ */
+public class SqlStatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (context.getRequiredTestMethod().isAnnotationPresent(MaxStatements.class)) {
+            SqlStatementCounter.start();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        MaxStatements maxStatements = context.getRequiredTestMethod().getAnnotation(MaxStatements.class);
+        if (maxStatements == null) {
+            return;
+        }
+
+        SqlStatementStats stats = SqlStatementCounter.stop();
+        // 테스트가 이미 실패한 경우 원래 실패 원인을 그대로 보고
+        if (stats == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        if (stats.getCount() > maxStatements.value()) {
+            throw new AssertionError("SQL 문이 최대 " + maxStatements.value() + "건이어야 하지만 " + stats.getCount()
+                    + "건 실행되었습니다:\n  " + String.join("\n  ", stats.getStatements()));
+        }
+    }
+}